@@ -2,6 +2,7 @@ package com.peakpartner.assessment.controller;
 
 import com.peakpartner.assessment.dto.*;
 import com.peakpartner.assessment.service.AssessmentService;
+import com.peakpartner.auth.model.AuthenticatedUser;
 import com.peakpartner.common.dto.ApiResponse;
 import com.peakpartner.profile.model.Profile;
 import jakarta.validation.Valid;
@@ -23,48 +24,48 @@ public class AssessmentController {
 
     @PostMapping
     public ResponseEntity<ApiResponse<AssessmentResponse>> createAssessment(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @Valid @RequestBody CreateAssessmentRequest request) {
-        AssessmentResponse response = assessmentService.createAssessment(currentUser.getId(), request);
+        AssessmentResponse response = assessmentService.createAssessment(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Assessment created", response));
     }
 
     @PutMapping("/{id}/submit")
     public ResponseEntity<ApiResponse<AssessmentResponse>> submitAssessment(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id,
             @RequestBody SubmitAssessmentRequest request) {
-        AssessmentResponse response = assessmentService.submitAssessment(currentUser.getId(), id, request);
+        AssessmentResponse response = assessmentService.submitAssessment(currentUser.id(), id, request);
         return ResponseEntity.ok(ApiResponse.success("Assessment submitted", response));
     }
 
     @PutMapping("/{id}/review")
     public ResponseEntity<ApiResponse<AssessmentResponse>> reviewAssessment(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id,
             @RequestBody Map<String, String> body) {
         AssessmentResponse response = assessmentService.reviewAssessment(
-                currentUser.getId(), id, body.get("notes"));
+                currentUser.id(), id, body.get("notes"));
         return ResponseEntity.ok(ApiResponse.success("Assessment reviewed", response));
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<AssessmentResponse>>> getMyAssessments(
-            @AuthenticationPrincipal Profile currentUser) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         List<AssessmentResponse> list;
-        if (currentUser.getRole() == Profile.Role.TRAINER) {
-            list = assessmentService.getAssessmentsForTrainer(currentUser.getId());
+        if (currentUser.role() == Profile.Role.TRAINER) {
+            list = assessmentService.getAssessmentsForTrainer(currentUser.id());
         } else {
-            list = assessmentService.getAssessmentsForClient(currentUser.getId());
+            list = assessmentService.getAssessmentsForClient(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success(list));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<AssessmentResponse>> getAssessment(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        AssessmentResponse response = assessmentService.getAssessment(currentUser.getId(), id);
+        AssessmentResponse response = assessmentService.getAssessment(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
@@ -1,5 +1,7 @@
 package com.peakpartner.assessment.model;
 
+import com.peakpartner.common.etag.UserDataVersionListener;
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.profile.model.Profile;
 import com.peakpartner.connection.model.Connection;
 import jakarta.persistence.*;
@@ -13,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserDataVersionListener.class)
 @Table(name = "assessments")
 @Data
 @Builder
@@ -21,7 +24,7 @@ import java.util.UUID;
 public class Assessment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -60,4 +63,7 @@ public class Assessment {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
 }
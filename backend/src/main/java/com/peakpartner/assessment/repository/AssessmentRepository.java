@@ -1,7 +1,14 @@
 package com.peakpartner.assessment.repository;
 
 import com.peakpartner.assessment.model.Assessment;
+import com.peakpartner.connection.repository.ConnectionRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,11 +17,25 @@ import java.util.UUID;
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, UUID> {
 
+    @EntityGraph(attributePaths = {"trainer", "client"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Assessment> findByTrainerIdOrderByCreatedAtDesc(UUID trainerId);
 
+    @EntityGraph(attributePaths = {"trainer", "client"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Assessment> findByClientIdOrderByCreatedAtDesc(UUID clientId);
 
     List<Assessment> findByConnectionIdOrderByCreatedAtDesc(UUID connectionId);
 
+    @EntityGraph(attributePaths = {"trainer", "client"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Assessment> findByClientIdAndStatus(UUID clientId, String status);
+
+    @EntityGraph(attributePaths = {"trainer", "client"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Assessment a WHERE a.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND a.changeSeq >= :fromSeq AND a.changeSeq < :toSeq ORDER BY a.changeSeq")
+    List<Assessment> findChangedForUser(@Param("userId") UUID userId,
+                                        @Param("fromSeq") long fromSeq,
+                                        @Param("toSeq") long toSeq);
 }
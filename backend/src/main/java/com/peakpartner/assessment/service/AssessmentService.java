@@ -79,16 +79,25 @@ public class AssessmentService {
         return AssessmentResponse.fromEntity(assessment);
     }
 
+    @Transactional(readOnly = true)
     public List<AssessmentResponse> getAssessmentsForTrainer(UUID trainerId) {
         return assessmentRepository.findByTrainerIdOrderByCreatedAtDesc(trainerId)
                 .stream().map(AssessmentResponse::fromEntity).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AssessmentResponse> getAssessmentsForClient(UUID clientId) {
         return assessmentRepository.findByClientIdOrderByCreatedAtDesc(clientId)
                 .stream().map(AssessmentResponse::fromEntity).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<AssessmentResponse> getPendingAssessmentsForClient(UUID clientId) {
+        return assessmentRepository.findByClientIdAndStatus(clientId, "PENDING")
+                .stream().map(AssessmentResponse::fromEntity).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
     public AssessmentResponse getAssessment(UUID userId, UUID assessmentId) {
         Assessment assessment = assessmentRepository.findById(assessmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assessment not found"));
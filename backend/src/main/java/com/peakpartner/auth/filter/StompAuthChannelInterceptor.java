@@ -0,0 +1,54 @@
+package com.peakpartner.auth.filter;
+
+import com.peakpartner.auth.service.TokenAuthenticator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authenticates STOMP sessions with the same bearer token as the REST API. Browsers cannot
+ * set headers on the WebSocket handshake, so the token travels in the CONNECT frame's
+ * {@code Authorization} header and the resulting principal is kept for the whole session.
+ * The channel is push-only: clients may subscribe to their own user queue and nothing else.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/queue/";
+
+    private final TokenAuthenticator tokenAuthenticator;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            String authHeader = accessor.getFirstNativeHeader("Authorization");
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                throw new MessageDeliveryException(message, "Missing bearer token");
+            }
+            accessor.setUser(tokenAuthenticator.authenticate(authHeader.substring(7))
+                    .orElseThrow(() -> new MessageDeliveryException(message, "Invalid or expired token")));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            String destination = accessor.getDestination();
+            if (accessor.getUser() == null || destination == null || !destination.startsWith(USER_DESTINATION_PREFIX)) {
+                throw new MessageDeliveryException(message, "Subscription not allowed");
+            }
+        } else if (command == StompCommand.SEND) {
+            throw new MessageDeliveryException(message, "This channel is push-only");
+        }
+        return message;
+    }
+}
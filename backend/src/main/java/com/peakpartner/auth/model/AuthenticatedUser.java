@@ -0,0 +1,23 @@
+package com.peakpartner.auth.model;
+
+import com.peakpartner.profile.model.Profile;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.util.UUID;
+
+/**
+ * Security principal for an authenticated request. Immutable and detached from JPA, so it
+ * can be built from token claims alone and safely shared across threads.
+ * Its name is the user id, which is what STOMP user destinations are resolved against.
+ */
+public record AuthenticatedUser(UUID id, String email, Profile.Role role) implements AuthenticatedPrincipal {
+
+    public static AuthenticatedUser fromProfile(Profile profile) {
+        return new AuthenticatedUser(profile.getId(), profile.getEmail(), profile.getRole());
+    }
+
+    @Override
+    public String getName() {
+        return id.toString();
+    }
+}
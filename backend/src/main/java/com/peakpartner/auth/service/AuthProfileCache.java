@@ -0,0 +1,82 @@
+package com.peakpartner.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.peakpartner.profile.event.ProfileChangedEvent;
+import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.profile.repository.projection.AuthIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Identities (role and auth version) resolved for authenticated requests. Each dashboard load fires 6-9 parallel
+ * API calls for the same user, so the filter must not hit the database for every one.
+ *
+ * <p>Size-bounded with W-TinyLFU admission, so a burst of one-off users cannot push out
+ * the active ones. Expiry is amortised O(1) and runs during cache maintenance, never as a
+ * sweep on the request thread. Entries are dropped as soon as a profile write commits.
+ * Hit ratio and load latency are published as {@code cache.*} metrics with
+ * {@code cache=authProfiles}.
+ *
+ * <p>Loads go through {@link ProfileRepository#findAuthIdentityById}, not {@code findById}:
+ * the Hibernate L2 copy of a profile keeps its old role and auth version for its whole TTL
+ * when the role is changed in SQL, so a role change is seen here within this cache's TTL.
+ */
+@Component
+public class AuthProfileCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "authProfiles";
+
+    private final ProfileRepository profileRepository;
+    private final AuthVersionRegistry authVersionRegistry;
+    private final Cache<UUID, AuthIdentity> cache;
+
+    public AuthProfileCache(ProfileRepository profileRepository,
+                            AuthVersionRegistry authVersionRegistry,
+                            @Value("${auth.profile-cache.max-size:10000}") long maxSize,
+                            @Value("${auth.profile-cache.ttl:60s}") Duration ttl) {
+        this.profileRepository = profileRepository;
+        this.authVersionRegistry = authVersionRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the identity, loading it on a miss; {@code null} if no such profile exists. */
+    public AuthIdentity get(UUID userId) {
+        return cache.get(userId, this::load);
+    }
+
+    private AuthIdentity load(UUID userId) {
+        AuthIdentity identity = profileRepository.findAuthIdentityById(userId).orElse(null);
+        if (identity != null) {
+            authVersionRegistry.observe(userId, identity.authVersion());
+        }
+        return identity;
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        invalidate(event.profileId());
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
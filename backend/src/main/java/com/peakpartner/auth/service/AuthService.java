@@ -5,15 +5,16 @@ import com.peakpartner.auth.dto.LoginRequest;
 import com.peakpartner.auth.dto.SignUpRequest;
 import com.peakpartner.common.exception.BadRequestException;
 import com.peakpartner.common.exception.UnauthorizedException;
+import com.peakpartner.common.id.UuidV7;
 import com.peakpartner.profile.model.Profile;
 import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.profile.repository.projection.AuthIdentity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +23,7 @@ public class AuthService {
     private final ProfileRepository profileRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final AuthVersionRegistry authVersionRegistry;
 
     @Transactional
     public AuthResponse signup(SignUpRequest request) {
@@ -32,7 +34,7 @@ public class AuthService {
 
         // Create profile
         Profile profile = Profile.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.generate())
                 .fullName(request.getFullName())
                 .email(request.getEmail())
                 .phone(request.getPhone())
@@ -40,12 +42,14 @@ public class AuthService {
                 .passwordHash(passwordEncoder.encode(request.getPassword()))
                 .avgRating(BigDecimal.ZERO)
                 .totalReviews(0)
+                .authVersion(0)
                 .build();
 
         profile = profileRepository.save(profile);
 
         // Generate JWT token
-        String token = jwtService.generateToken(profile.getId(), profile.getEmail(), profile.getRole().name());
+        String token = jwtService.generateToken(
+                profile.getId(), profile.getEmail(), profile.getRole().name(), profile.getAuthVersion());
 
         return AuthResponse.builder()
                 .accessToken(token)
@@ -64,7 +68,9 @@ public class AuthService {
             throw new UnauthorizedException("Invalid credentials");
         }
 
-        String token = jwtService.generateToken(profile.getId(), profile.getEmail(), profile.getRole().name());
+        authVersionRegistry.observe(profile.getId(), profile.getAuthVersion());
+        String token = jwtService.generateToken(
+                profile.getId(), profile.getEmail(), profile.getRole().name(), profile.getAuthVersion());
 
         return AuthResponse.builder()
                 .accessToken(token)
@@ -76,18 +82,22 @@ public class AuthService {
     }
 
     public AuthResponse refresh(String refreshToken) {
-        String userId = jwtService.extractUserId(refreshToken);
-        Profile profile = profileRepository.findById(UUID.fromString(userId))
+        VerifiedToken token = jwtService.verify(refreshToken)
+                .orElseThrow(() -> new UnauthorizedException("Invalid token"));
+        // Not findById: the L2 copy would re-issue the old role after a role change in SQL
+        AuthIdentity identity = profileRepository.findAuthIdentityById(token.userId())
                 .orElseThrow(() -> new UnauthorizedException("Invalid token"));
 
-        String newToken = jwtService.generateToken(profile.getId(), profile.getEmail(), profile.getRole().name());
+        authVersionRegistry.observe(identity.id(), identity.authVersion());
+        String newToken = jwtService.generateToken(
+                identity.id(), identity.email(), identity.role().name(), identity.authVersion());
 
         return AuthResponse.builder()
                 .accessToken(newToken)
                 .refreshToken(newToken)
-                .userId(profile.getId())
-                .email(profile.getEmail())
-                .role(profile.getRole().name())
+                .userId(identity.id())
+                .email(identity.email())
+                .role(identity.role().name())
                 .build();
     }
 }
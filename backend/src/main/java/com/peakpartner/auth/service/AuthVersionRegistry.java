@@ -0,0 +1,39 @@
+package com.peakpartner.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Latest {@code profiles.auth_version} this node has seen per user. In stateless-principal
+ * mode a token carrying an older version is rejected, so the client has to refresh and
+ * gets a token with the current role.
+ *
+ * <p>Limit: in stateless mode this node only learns a version when the user logs in or
+ * refreshes here. Roles change in SQL and the bump is not pushed to any node, so a token
+ * issued for the old role stays valid until it expires or the user next refreshes on this
+ * node. Deployments that need role changes to take effect sooner should keep the default
+ * profile-backed principal.
+ */
+@Component
+public class AuthVersionRegistry {
+
+    private final Cache<UUID, Integer> versions = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofDays(1))
+            .build();
+
+    public void observe(UUID userId, Integer version) {
+        if (version != null) {
+            versions.asMap().merge(userId, version, Math::max);
+        }
+    }
+
+    public boolean isStale(UUID userId, int tokenVersion) {
+        Integer known = versions.getIfPresent(userId);
+        return known != null && tokenVersion < known;
+    }
+}
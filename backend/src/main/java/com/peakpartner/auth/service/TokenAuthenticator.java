@@ -0,0 +1,64 @@
+package com.peakpartner.auth.service;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.profile.repository.projection.AuthIdentity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Turns a raw access token into an authenticated principal. Shared by the HTTP filter
+ * and the STOMP CONNECT interceptor so both apply the same verification and auth-version rules.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenAuthenticator {
+
+    private final JwtService jwtService;
+    private final AuthProfileCache authProfileCache;
+    private final AuthVersionRegistry authVersionRegistry;
+
+    // Opt-in: build the principal from verified claims alone (see AuthenticatedUser)
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    public Optional<UsernamePasswordAuthenticationToken> authenticate(String token) {
+        return jwtService.verify(token)
+                .map(verified -> statelessPrincipal ? fromClaims(verified) : fromProfile(verified))
+                .map(user -> new UsernamePasswordAuthenticationToken(
+                        user,
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.role().name()))
+                ));
+    }
+
+    // Claims-only principal: no database or cache lookup before the controller
+    private AuthenticatedUser fromClaims(VerifiedToken token) {
+        if (token.role() == null || authVersionRegistry.isStale(token.userId(), token.authVersion())) {
+            return null;
+        }
+        try {
+            return new AuthenticatedUser(token.userId(), token.email(), Profile.Role.valueOf(token.role()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Default: the profile must still exist and the token must carry its current auth version
+    private AuthenticatedUser fromProfile(VerifiedToken token) {
+        AuthIdentity identity = authProfileCache.get(token.userId());
+        if (identity == null) {
+            return null;
+        }
+        if (identity.authVersion() != null && token.authVersion() < identity.authVersion()) {
+            return null;
+        }
+        return new AuthenticatedUser(identity.id(), identity.email(), identity.role());
+    }
+}
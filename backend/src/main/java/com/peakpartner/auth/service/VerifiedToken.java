@@ -0,0 +1,14 @@
+package com.peakpartner.auth.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of an access token whose signature and expiry have been checked.
+ */
+public record VerifiedToken(UUID userId, String email, String role, int authVersion, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
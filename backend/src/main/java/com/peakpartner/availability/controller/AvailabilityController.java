@@ -0,0 +1,80 @@
+package com.peakpartner.availability.controller;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.availability.dto.AvailabilityResponse;
+import com.peakpartner.availability.dto.CreateAvailabilityRequest;
+import com.peakpartner.availability.dto.DaySlotsResponse;
+import com.peakpartner.availability.dto.MutualSlotResponse;
+import com.peakpartner.availability.service.AvailabilityService;
+import com.peakpartner.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<AvailabilityResponse>> createRule(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @Valid @RequestBody CreateAvailabilityRequest request) {
+        AvailabilityResponse response = availabilityService.createRule(currentUser.id(), request);
+        return ResponseEntity.ok(ApiResponse.success("Availability added", response));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<List<AvailabilityResponse>>> getMyRules(
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        List<AvailabilityResponse> rules = availabilityService.getRules(currentUser.id());
+        return ResponseEntity.ok(ApiResponse.success("Availability retrieved", rules));
+    }
+
+    @DeleteMapping("/{ruleId}")
+    public ResponseEntity<ApiResponse<Void>> deleteRule(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @PathVariable UUID ruleId) {
+        availabilityService.deleteRule(currentUser.id(), ruleId);
+        return ResponseEntity.ok(ApiResponse.success("Availability removed", null));
+    }
+
+    @GetMapping("/trainers/{trainerId}")
+    public ResponseEntity<ApiResponse<List<AvailabilityResponse>>> getTrainerRules(
+            @PathVariable UUID trainerId) {
+        List<AvailabilityResponse> rules = availabilityService.getRules(trainerId);
+        return ResponseEntity.ok(ApiResponse.success("Availability retrieved", rules));
+    }
+
+    @GetMapping("/trainers/{trainerId}/slots")
+    public ResponseEntity<ApiResponse<List<DaySlotsResponse>>> getFreeSlots(
+            @PathVariable UUID trainerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer minMinutes) {
+        List<DaySlotsResponse> slots = availabilityService.getFreeSlots(trainerId, from, to, minMinutes);
+        return ResponseEntity.ok(ApiResponse.success("Free slots", slots));
+    }
+
+    @GetMapping("/connections/{connectionId}/mutual-slots")
+    public ResponseEntity<ApiResponse<List<MutualSlotResponse>>> getMutualSlots(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @PathVariable UUID connectionId,
+            @RequestParam(required = false) UUID sessionId,
+            @RequestParam(required = false) Integer durationMinutes,
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) Integer limit) {
+        List<MutualSlotResponse> slots = availabilityService.findMutualSlots(
+                currentUser.id(), connectionId, sessionId, durationMinutes, days, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggested slots", slots));
+    }
+}
@@ -0,0 +1,33 @@
+package com.peakpartner.availability.dto;
+
+import com.peakpartner.availability.model.TrainerAvailability;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class AvailabilityResponse {
+    private UUID id;
+    private Integer dayOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Boolean isRecurring;
+    private LocalDate specificDate;
+    private Boolean isActive;
+
+    public static AvailabilityResponse fromEntity(TrainerAvailability a) {
+        return AvailabilityResponse.builder()
+                .id(a.getId())
+                .dayOfWeek(a.getDayOfWeek())
+                .startTime(a.getStartTime())
+                .endTime(a.getEndTime())
+                .isRecurring(a.getIsRecurring())
+                .specificDate(a.getSpecificDate())
+                .isActive(a.getIsActive())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.peakpartner.availability.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+public class CreateAvailabilityRequest {
+    // 0 = Sunday ... 6 = Saturday; ignored when specificDate is set
+    @Min(0)
+    @Max(6)
+    private Integer dayOfWeek;
+    @NotNull
+    private LocalTime startTime;
+    @NotNull
+    private LocalTime endTime;
+    // Set for a one-day override that replaces the weekly rules on that date;
+    // an override with startTime == endTime marks the day as unavailable
+    private LocalDate specificDate;
+}
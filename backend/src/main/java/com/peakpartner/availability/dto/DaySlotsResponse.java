@@ -0,0 +1,29 @@
+package com.peakpartner.availability.dto;
+
+import com.peakpartner.availability.service.DayGrid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+public class DaySlotsResponse {
+    private LocalDate date;
+    private List<SlotResponse> slots;
+
+    @Data
+    @AllArgsConstructor
+    public static class SlotResponse {
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private int minutes;
+
+        public static SlotResponse fromWindow(DayGrid.Window window) {
+            return new SlotResponse(window.start(), window.end(), window.minutes());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.peakpartner.availability.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@AllArgsConstructor
+public class MutualSlotResponse {
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
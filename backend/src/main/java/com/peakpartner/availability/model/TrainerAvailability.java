@@ -1,5 +1,6 @@
 package com.peakpartner.availability.model;
 
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class TrainerAvailability {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
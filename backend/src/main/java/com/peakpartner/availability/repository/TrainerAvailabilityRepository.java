@@ -0,0 +1,28 @@
+package com.peakpartner.availability.repository;
+
+import com.peakpartner.availability.model.TrainerAvailability;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TrainerAvailabilityRepository extends JpaRepository<TrainerAvailability, UUID> {
+
+    List<TrainerAvailability> findByTrainerIdOrderByDayOfWeekAscStartTimeAsc(UUID trainerId);
+
+    // Every rule that can affect [from, to]: all weekly rules plus the date overrides inside the range
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM TrainerAvailability a WHERE a.trainer.id = :trainerId AND a.isActive = true " +
+           "AND (a.specificDate IS NULL OR a.specificDate BETWEEN :from AND :to)")
+    List<TrainerAvailability> findActiveRulesInRange(@Param("trainerId") UUID trainerId,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
+}
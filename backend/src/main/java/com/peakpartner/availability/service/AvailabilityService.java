@@ -0,0 +1,246 @@
+package com.peakpartner.availability.service;
+
+import com.peakpartner.availability.dto.AvailabilityResponse;
+import com.peakpartner.availability.dto.CreateAvailabilityRequest;
+import com.peakpartner.availability.dto.DaySlotsResponse;
+import com.peakpartner.availability.dto.MutualSlotResponse;
+import com.peakpartner.availability.model.TrainerAvailability;
+import com.peakpartner.availability.repository.TrainerAvailabilityRepository;
+import com.peakpartner.common.exception.BadRequestException;
+import com.peakpartner.common.exception.ResourceNotFoundException;
+import com.peakpartner.common.exception.UnauthorizedException;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.session.model.SessionBooking;
+import com.peakpartner.session.repository.SessionBookingRepository;
+import com.peakpartner.session.repository.projection.BookedInterval;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Trainer availability rules and the free slots they leave open.
+ *
+ * <p>Rules are either weekly (day_of_week, no specific_date) or one-day overrides
+ * (specific_date set). On a date with at least one active override the overrides replace
+ * the weekly rules for that day; a zero-length override marks the day off. Slots are
+ * computed from two queries, rules and BOOKED intervals for the range, into one
+ * {@link DayGrid} per day.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    // Two months covers a month view starting mid-month
+    static final int MAX_RANGE_DAYS = 62;
+    private static final int DEFAULT_HORIZON_DAYS = 14;
+    private static final int DEFAULT_DURATION_MINUTES = 60;
+    private static final int MAX_DURATION_MINUTES = 8 * 60;
+    private static final int DEFAULT_SUGGESTIONS = 10;
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final TrainerAvailabilityRepository availabilityRepository;
+    private final SessionBookingRepository sessionBookingRepository;
+    private final ProfileRepository profileRepository;
+    private final ConnectionRepository connectionRepository;
+
+    @Transactional
+    public AvailabilityResponse createRule(UUID trainerId, CreateAvailabilityRequest request) {
+        Profile trainer = profileRepository.findById(trainerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
+        if (trainer.getRole() != Profile.Role.TRAINER) {
+            throw new UnauthorizedException("Only trainers can set availability");
+        }
+
+        boolean override = request.getSpecificDate() != null;
+        if (!override && request.getDayOfWeek() == null) {
+            throw new BadRequestException("Either dayOfWeek or specificDate is required");
+        }
+        // Zero-length is only meaningful for an override (day off)
+        if (request.getEndTime().isBefore(request.getStartTime())
+                || (!override && !request.getEndTime().isAfter(request.getStartTime()))) {
+            throw new BadRequestException("End time must be after start time");
+        }
+
+        TrainerAvailability rule = TrainerAvailability.builder()
+                .trainer(trainer)
+                .dayOfWeek(override ? dayOfWeek(request.getSpecificDate()) : request.getDayOfWeek())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .isRecurring(!override)
+                .specificDate(request.getSpecificDate())
+                .isActive(true)
+                .build();
+        return AvailabilityResponse.fromEntity(availabilityRepository.save(rule));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AvailabilityResponse> getRules(UUID trainerId) {
+        return availabilityRepository.findByTrainerIdOrderByDayOfWeekAscStartTimeAsc(trainerId).stream()
+                .map(AvailabilityResponse::fromEntity)
+                .toList();
+    }
+
+    @Transactional
+    public void deleteRule(UUID trainerId, UUID ruleId) {
+        TrainerAvailability rule = availabilityRepository.findById(ruleId)
+                .orElseThrow(() -> new ResourceNotFoundException("Availability rule not found"));
+        if (!rule.getTrainer().getId().equals(trainerId)) {
+            throw new UnauthorizedException("You can only delete your own availability");
+        }
+        availabilityRepository.delete(rule);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DaySlotsResponse> getFreeSlots(UUID trainerId, LocalDate from, LocalDate to, Integer minMinutes) {
+        int minSlots = minMinutes == null ? 1 : DayGrid.slotsFor(minMinutes);
+        Map<LocalDate, DayGrid> grids = buildTrainerGrids(trainerId, from, to);
+
+        List<DaySlotsResponse> days = new ArrayList<>(grids.size());
+        grids.forEach((date, grid) -> days.add(DaySlotsResponse.builder()
+                .date(date)
+                .slots(grid.windows(minSlots).stream()
+                        .map(DaySlotsResponse.SlotResponse::fromWindow)
+                        .toList())
+                .build()));
+        return days;
+    }
+
+    /**
+     * Times over the next {@code days} days when the trainer is available and neither party
+     * is booked, best first. With {@code sessionId} (a session being rescheduled) the session's
+     * own time counts as free, its length is the default duration, and candidates near its
+     * current start time rank higher.
+     */
+    @Transactional(readOnly = true)
+    public List<MutualSlotResponse> findMutualSlots(UUID userId, UUID connectionId, UUID sessionId,
+                                                    Integer durationMinutes, Integer days, Integer limit) {
+        Connection connection = connectionRepository.findById(connectionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Connection not found"));
+        UUID trainerId = connection.getTrainer().getId();
+        UUID clientId = connection.getClient().getId();
+        if (!trainerId.equals(userId) && !clientId.equals(userId)) {
+            throw new UnauthorizedException("You are not part of this connection");
+        }
+        if (connection.getStatus() != Connection.ConnectionStatus.ACCEPTED) {
+            throw new BadRequestException("Connection must be accepted to book sessions");
+        }
+
+        Integer preferredSlot = null;
+        if (sessionId != null) {
+            SessionBooking booking = sessionBookingRepository.findById(sessionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Session not found"));
+            if (!booking.getConnection().getId().equals(connectionId)) {
+                throw new BadRequestException("Session does not belong to this connection");
+            }
+            preferredSlot = DayGrid.floorSlot(booking.getStartTime());
+            if (durationMinutes == null) {
+                durationMinutes = (int) ChronoUnit.MINUTES.between(booking.getStartTime(), booking.getEndTime());
+            }
+        }
+        int duration = durationMinutes == null ? DEFAULT_DURATION_MINUTES : durationMinutes;
+        if (duration < DayGrid.SLOT_MINUTES || duration > MAX_DURATION_MINUTES) {
+            throw new BadRequestException("Duration must be between " + DayGrid.SLOT_MINUTES
+                    + " and " + MAX_DURATION_MINUTES + " minutes");
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_SUGGESTIONS : Math.min(limit, MAX_SUGGESTIONS);
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays((days == null ? DEFAULT_HORIZON_DAYS : days) - 1L);
+        Map<LocalDate, DayGrid> grids = buildTrainerGrids(trainerId, from, to, sessionId);
+        markBusy(grids, sessionBookingRepository.findBookedIntervalsForClient(clientId, from, to), sessionId);
+
+        return SlotRanker.rank(grids, from, DayGrid.slotsFor(duration), preferredSlot, size).stream()
+                .map(c -> new MutualSlotResponse(c.date(), DayGrid.timeOf(c.startSlot()), DayGrid.timeOf(c.endSlot())))
+                .toList();
+    }
+
+    /**
+     * Free-time grid per day in [from, to] for a trainer: availability rules minus BOOKED
+     * sessions, with the past cleared. Days before today are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, DayGrid> buildTrainerGrids(UUID trainerId, LocalDate from, LocalDate to) {
+        return buildTrainerGrids(trainerId, from, to, null);
+    }
+
+    // ignoredSessionId: a session being rescheduled, whose current time counts as free
+    private Map<LocalDate, DayGrid> buildTrainerGrids(UUID trainerId, LocalDate from, LocalDate to,
+                                                      UUID ignoredSessionId) {
+        validateRange(from, to);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate start = from.isBefore(now.toLocalDate()) ? now.toLocalDate() : from;
+        Map<LocalDate, DayGrid> grids = new LinkedHashMap<>();
+        if (start.isAfter(to)) {
+            return grids;
+        }
+
+        List<TrainerAvailability> rules = availabilityRepository.findActiveRulesInRange(trainerId, start, to);
+        List<List<TrainerAvailability>> weekly = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            weekly.add(new ArrayList<>());
+        }
+        Map<LocalDate, List<TrainerAvailability>> overrides = new HashMap<>();
+        for (TrainerAvailability rule : rules) {
+            if (rule.getSpecificDate() != null) {
+                overrides.computeIfAbsent(rule.getSpecificDate(), d -> new ArrayList<>()).add(rule);
+            } else {
+                weekly.get(rule.getDayOfWeek()).add(rule);
+            }
+        }
+
+        for (LocalDate date = start; !date.isAfter(to); date = date.plusDays(1)) {
+            DayGrid grid = new DayGrid();
+            List<TrainerAvailability> dayRules = overrides.getOrDefault(date, weekly.get(dayOfWeek(date)));
+            for (TrainerAvailability rule : dayRules) {
+                grid.markFree(rule.getStartTime(), rule.getEndTime());
+            }
+            grids.put(date, grid);
+        }
+
+        markBusy(grids, sessionBookingRepository.findBookedIntervalsForTrainer(trainerId, start, to), ignoredSessionId);
+        DayGrid today = grids.get(now.toLocalDate());
+        if (today != null) {
+            today.clearBefore(now.toLocalTime());
+        }
+        return grids;
+    }
+
+    static void markBusy(Map<LocalDate, DayGrid> grids, List<BookedInterval> intervals, UUID ignoredSessionId) {
+        for (BookedInterval interval : intervals) {
+            if (interval.id().equals(ignoredSessionId)) {
+                continue;
+            }
+            DayGrid grid = grids.get(interval.sessionDate());
+            if (grid != null) {
+                grid.markBusy(interval.startTime(), interval.endTime());
+            }
+        }
+    }
+
+    static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new BadRequestException("A valid from/to date range is required");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    // day_of_week follows the schema: 0 = Sunday ... 6 = Saturday
+    private static int dayOfWeek(LocalDate date) {
+        return date.getDayOfWeek().getValue() % 7;
+    }
+}
@@ -0,0 +1,101 @@
+package com.peakpartner.availability.service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * One day as 96 quarter-hour cells; a set bit is a free cell. Two longs of state per day,
+ * so a month of grids is a few kilobytes and marking a booking busy is a range clear.
+ *
+ * <p>Free time is rounded inwards to whole cells and busy time outwards, so a slot read
+ * back from the grid never overlaps a booking that starts or ends off the quarter hour.
+ */
+public final class DayGrid {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    /** A run of free cells: {@code [startSlot, endSlot)}. */
+    public record Window(int startSlot, int endSlot) {
+
+        public LocalTime start() {
+            return timeOf(startSlot);
+        }
+
+        public LocalTime end() {
+            return timeOf(endSlot);
+        }
+
+        public int minutes() {
+            return (endSlot - startSlot) * SLOT_MINUTES;
+        }
+    }
+
+    private final BitSet free = new BitSet(SLOTS_PER_DAY);
+
+    public void markFree(LocalTime start, LocalTime end) {
+        int from = ceilSlot(start);
+        int to = isEndOfDay(end) ? SLOTS_PER_DAY : floorSlot(end);
+        if (from < to) {
+            free.set(from, to);
+        }
+    }
+
+    public void markBusy(LocalTime start, LocalTime end) {
+        int from = floorSlot(start);
+        int to = ceilSlot(end);
+        if (from < to) {
+            free.clear(from, to);
+        }
+    }
+
+    /** Clears every cell that starts before {@code time}; used to hide the past part of today. */
+    public void clearBefore(LocalTime time) {
+        free.clear(0, Math.min(ceilSlot(time), SLOTS_PER_DAY));
+    }
+
+    public boolean isEmpty() {
+        return free.isEmpty();
+    }
+
+    /** Maximal runs of free cells at least {@code minSlots} long, in time order. */
+    public List<Window> windows(int minSlots) {
+        List<Window> windows = new ArrayList<>();
+        int start = free.nextSetBit(0);
+        while (start >= 0) {
+            int end = free.nextClearBit(start);
+            if (end - start >= Math.max(minSlots, 1)) {
+                windows.add(new Window(start, end));
+            }
+            start = free.nextSetBit(end);
+        }
+        return windows;
+    }
+
+    public static int slotsFor(int minutes) {
+        return (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    public static int floorSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    private static int ceilSlot(LocalTime time) {
+        if (isEndOfDay(time)) {
+            return SLOTS_PER_DAY;
+        }
+        int minutes = time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 || time.getNano() > 0 ? 1 : 0);
+        return (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+
+    // A time of day cannot express 24:00, so an end of 23:59 or later closes the last cell
+    private static boolean isEndOfDay(LocalTime time) {
+        return time.getHour() == 23 && time.getMinute() == 59;
+    }
+
+    public static LocalTime timeOf(int slot) {
+        return slot >= SLOTS_PER_DAY ? LocalTime.MAX : LocalTime.of(0, 0).plusMinutes((long) slot * SLOT_MINUTES);
+    }
+}
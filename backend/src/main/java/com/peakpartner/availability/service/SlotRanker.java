@@ -0,0 +1,79 @@
+package com.peakpartner.availability.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Picks the best start times for a session of a given length from per-day free grids.
+ *
+ * <p>Each free window offers at most three candidates: its start, the latest start that
+ * still fits, and (when a preferred time is given) the start closest to it. Edge-aligned
+ * starts keep the remaining free time in one piece. With a preferred time, candidates are
+ * costed by how far out the day is and how far the start is from that time; otherwise they
+ * are ranked earliest first. The best {@code limit} are kept in a bounded heap, so the work
+ * is linear in the number of free windows.
+ */
+final class SlotRanker {
+
+    // One day later costs as much as being two hours further from the preferred time
+    private static final int DAY_COST = 8;
+    // Starting mid-window splits the free time around the session
+    private static final int SPLIT_COST = 2;
+
+    record Candidate(LocalDate date, int startSlot, int endSlot, int cost) {
+    }
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingInt(Candidate::cost)
+            .thenComparing(Candidate::date)
+            .thenComparingInt(Candidate::startSlot);
+
+    private SlotRanker() {
+    }
+
+    /**
+     * @param preferredSlot start cell to stay close to (the current time of a session being
+     *                      rescheduled), or null to favour the earliest times
+     */
+    static List<Candidate> rank(Map<LocalDate, DayGrid> grids, LocalDate firstDay, int durationSlots,
+                                Integer preferredSlot, int limit) {
+        PriorityQueue<Candidate> worstFirst = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        grids.forEach((date, grid) -> {
+            int dayOffset = (int) ChronoUnit.DAYS.between(firstDay, date);
+            for (DayGrid.Window window : grid.windows(durationSlots)) {
+                int latest = window.endSlot() - durationSlots;
+                offer(worstFirst, limit, candidate(date, window.startSlot(), durationSlots, dayOffset, preferredSlot, false));
+                if (latest != window.startSlot()) {
+                    offer(worstFirst, limit, candidate(date, latest, durationSlots, dayOffset, preferredSlot, false));
+                }
+                if (preferredSlot != null && preferredSlot > window.startSlot() && preferredSlot < latest) {
+                    offer(worstFirst, limit, candidate(date, preferredSlot, durationSlots, dayOffset, preferredSlot, true));
+                }
+            }
+        });
+
+        List<Candidate> ranked = new ArrayList<>(worstFirst);
+        ranked.sort(BEST_FIRST);
+        return ranked;
+    }
+
+    private static Candidate candidate(LocalDate date, int start, int durationSlots, int dayOffset,
+                                       Integer preferredSlot, boolean splitsWindow) {
+        // Without a preferred time the order is simply chronological
+        int cost = preferredSlot == null
+                ? dayOffset * DayGrid.SLOTS_PER_DAY + start
+                : dayOffset * DAY_COST + Math.abs(start - preferredSlot) + (splitsWindow ? SPLIT_COST : 0);
+        return new Candidate(date, start, start + durationSlots, cost);
+    }
+
+    private static void offer(PriorityQueue<Candidate> worstFirst, int limit, Candidate candidate) {
+        worstFirst.offer(candidate);
+        if (worstFirst.size() > limit) {
+            worstFirst.poll();
+        }
+    }
+}
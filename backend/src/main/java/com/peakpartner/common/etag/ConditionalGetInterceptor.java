@@ -0,0 +1,68 @@
+package com.peakpartner.common.etag;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.common.querycount.QueryCountHeaderAdvice;
+import com.peakpartner.common.querycount.QueryCountInspector;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Conditional GET for polled list endpoints. The ETag comes from {@link UserDataVersions},
+ * not from the body, so a matching {@code If-None-Match} is answered with 304 before the
+ * controller runs: no service call and no SQL. The 304 carries {@code X-Query-Count}
+ * to show it.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final UserDataVersions userDataVersions;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return true;
+        }
+
+        String etag = userDataVersions.etagFor(user.id());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // Let the browser keep the body but revalidate on every poll
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(QueryCountHeaderAdvice.HEADER, String.valueOf(QueryCountInspector.current()));
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-None-Match uses weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.peakpartner.common.etag;
+
+import com.peakpartner.assessment.model.Assessment;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.plan.model.WorkoutPlan;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.session.model.SessionBooking;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA listener on the entities behind ETag-guarded endpoints: any write bumps the data
+ * version of both participants. Resolved as a Spring bean through Hibernate's bean container.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDataVersionListener {
+
+    private final UserDataVersions userDataVersions;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        if (entity instanceof Connection c) {
+            bump(c.getTrainer(), c.getClient());
+        } else if (entity instanceof SessionBooking s) {
+            bump(s.getTrainer(), s.getClient());
+        } else if (entity instanceof WorkoutPlan p) {
+            bump(p.getTrainer(), p.getClient());
+        } else if (entity instanceof Assessment a) {
+            bump(a.getTrainer(), a.getClient());
+        }
+    }
+
+    // getId() on a lazy proxy does not initialize it
+    private void bump(Profile trainer, Profile client) {
+        userDataVersions.bumpAfterCommit(List.of(trainer.getId(), client.getId()));
+    }
+}
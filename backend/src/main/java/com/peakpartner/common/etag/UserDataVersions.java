@@ -0,0 +1,83 @@
+package com.peakpartner.common.etag;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.peakpartner.profile.event.ProfileChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the data each user can see, used as the ETag of polled list endpoints.
+ *
+ * <p>Every bump takes a fresh tick from one node-wide clock, so a user's version only
+ * moves forward and never repeats, even after the entry is evicted: a user with no entry
+ * reads the highest evicted tick. Bumps run after commit, and the ETag is read before the
+ * handler loads anything, so a tag can at worst be older than its body (one extra 200),
+ * never newer. The node epoch keeps tags from another instance or an earlier run from
+ * matching, and the date rolls "today" views over at midnight.
+ *
+ * <p>Counters are local to this node: writes made by another instance are not seen here.
+ */
+@Component
+public class UserDataVersions {
+
+    private final String nodeEpoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong evictedFloor = new AtomicLong();
+    // Raised by changes visible to everyone's views, such as profile names on connections
+    private final AtomicLong globalFloor = new AtomicLong();
+    private final Cache<UUID, Long> versions;
+
+    public UserDataVersions(@Value("${etag.max-tracked-users:100000}") long maxTrackedUsers) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxTrackedUsers)
+                .evictionListener((UUID userId, Long version, RemovalCause cause) -> {
+                    if (version != null) {
+                        evictedFloor.accumulateAndGet(version, Math::max);
+                    }
+                })
+                .build();
+    }
+
+    public String etagFor(UUID userId) {
+        Long version = versions.getIfPresent(userId);
+        long effective = Math.max(version != null ? version : evictedFloor.get(), globalFloor.get());
+        return "\"" + nodeEpoch + "." + effective + "." + LocalDate.now() + "\"";
+    }
+
+    /** Bumps the users once the current transaction commits, or immediately outside one. */
+    public void bumpAfterCommit(Collection<UUID> userIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userIds);
+                }
+            });
+        } else {
+            bump(userIds);
+        }
+    }
+
+    private void bump(Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            versions.put(userId, clock.incrementAndGet());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        globalFloor.set(clock.incrementAndGet());
+    }
+}
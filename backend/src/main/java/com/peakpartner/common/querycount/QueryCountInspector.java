@@ -0,0 +1,37 @@
+package com.peakpartner.common.querycount;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * Registered through {@code hibernate.session_factory.statement_inspector}; the count is
+ * reset per request by {@link QueryCountFilter} and reported by {@link QueryCountHeaderAdvice}.
+ * Work handed to another thread is not seen here unless that thread reads its own count and
+ * {@link #add(int) adds} it back on the request thread, as the dashboard sections do.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTER.get()[0]++;
+        return sql;
+    }
+
+    public static int current() {
+        return COUNTER.get()[0];
+    }
+
+    public static void add(int statements) {
+        COUNTER.get()[0] += statements;
+    }
+
+    public static void reset() {
+        COUNTER.get()[0] = 0;
+    }
+
+    public static void clear() {
+        COUNTER.remove();
+    }
+}
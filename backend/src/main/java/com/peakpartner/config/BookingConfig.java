@@ -0,0 +1,36 @@
+package com.peakpartner.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "booking")
+public class BookingConfig {
+
+    public enum Mode {
+        // Overlap pre-check under PESSIMISTIC_WRITE row locks, then insert
+        PESSIMISTIC,
+        // No pre-check; the no_trainer_overlap/no_client_overlap constraints reject conflicts
+        OPTIMISTIC,
+        // Single node only: bookings for a trainer are serialised in-process and checked
+        // against a cached calendar (see TrainerBookingCoordinator)
+        COORDINATED
+    }
+
+    private Mode mode = Mode.PESSIMISTIC;
+    private Coordinator coordinator = new Coordinator();
+
+    @Data
+    public static class Coordinator {
+        // Rounded up to a power of two; trainers sharing a stripe also share its lock
+        private int stripes = 256;
+        private Duration lockTimeout = Duration.ofSeconds(5);
+        private long maxCalendars = 2000;
+        // Bounds how long a change made outside the coordinator can go unseen
+        private Duration calendarTtl = Duration.ofMinutes(10);
+    }
+}
@@ -1,8 +1,10 @@
 package com.peakpartner.config;
 
+import com.peakpartner.common.querycount.QueryCountHeaderAdvice;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -37,6 +39,7 @@ public class CorsConfig {
             configuration.setAllowedHeaders(Arrays.asList(allowedHeaders.split(",")));
         }
         
+        configuration.setExposedHeaders(List.of(QueryCountHeaderAdvice.HEADER, HttpHeaders.ETAG));
         configuration.setAllowCredentials(allowCredentials);
         configuration.setMaxAge(3600L);
 
@@ -0,0 +1,18 @@
+package com.peakpartner.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "dashboard")
+public class DashboardConfig {
+    // Budget for each section; a section that misses it is reported as degraded
+    private Duration sectionTimeout = Duration.ofSeconds(2);
+    // Keep below the Hikari pool size so dashboards cannot starve other requests
+    private int executorThreads = 6;
+    private int executorQueueCapacity = 500;
+}
@@ -0,0 +1,60 @@
+package com.peakpartner.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions for small, rarely changing reference rows.
+ * Each region is a size-bounded Caffeine cache behind the JCache API, with statistics
+ * published as {@code cache.*} metrics tagged by region name.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    public static final String PROFILES = "profiles";
+    public static final String CONNECTIONS = "connections";
+
+    private static final List<String> REGIONS = List.of(PROFILES, CONNECTIONS);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            if (cacheManager.getCache(region) != null) {
+                continue;
+            }
+            EntityCacheProperties.Region settings = properties.getRegions()
+                    .getOrDefault(region, new EntityCacheProperties.Region());
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(settings.getMaxSize()));
+            config.setExpireAfterWrite(OptionalLong.of(settings.getTtl().toNanos()));
+            config.setStatisticsEnabled(true);
+            cacheManager.createCache(region, config);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.peakpartner.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "event-stream")
+public class EventStreamProperties {
+    // Events kept per user for Last-Event-ID resume
+    private int replaySize = 100;
+    // Undelivered events a single subscriber may queue before it is disconnected
+    private int subscriberBufferSize = 64;
+    private int maxSubscribersPerUser = 5;
+    // Comment frames keep proxies and mobile carriers from closing idle streams
+    private Duration heartbeat = Duration.ofSeconds(20);
+    // Streams are closed after this so clients reconnect and re-present their token
+    private Duration maxStreamDuration = Duration.ofMinutes(30);
+    // Replay buffers of users with no open stream are dropped after this
+    private Duration idleTtl = Duration.ofMinutes(10);
+}
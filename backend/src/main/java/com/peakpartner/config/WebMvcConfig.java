@@ -1,15 +1,21 @@
 package com.peakpartner.config;
 
+import com.peakpartner.common.etag.ConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.nio.file.Paths;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
@@ -19,4 +25,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations(uploadPath);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Polled list views; their data is covered by UserDataVersionListener
+        registry.addInterceptor(conditionalGetInterceptor)
+                .addPathPatterns("/sessions/today", "/sessions/upcoming-list", "/connections",
+                        "/plans/workout", "/assessments");
+    }
 }
@@ -0,0 +1,76 @@
+package com.peakpartner.config;
+
+import com.peakpartner.auth.filter.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP over plain WebSocket at {@code /api/ws}, used only to push events to users
+ * (see RealtimeEventRelay). Idle sessions hold no request thread; the in-memory broker
+ * only keeps the subscription and sends heartbeats from a single scheduler thread.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final WebSocketProperties properties;
+    private final TaskScheduler messageBrokerTaskScheduler;
+    private final String allowedOrigins;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           WebSocketProperties properties,
+                           // Lazy: the broker scheduler is itself created by the configuration this class customizes
+                           @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler,
+                           @Value("${cors.allowed-origins}") String allowedOrigins) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.properties = properties;
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // Auth happens on the STOMP CONNECT frame, so the handshake itself is public
+        registry.addEndpoint("/ws").setAllowedOrigins(allowedOrigins.split(","));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long heartbeat = properties.getHeartbeat().toMillis();
+        registry.enableSimpleBroker("/queue")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(properties.getMessageSizeLimit())
+                .setSendBufferSizeLimit(properties.getSendBufferSizeLimit())
+                .setSendTimeLimit((int) properties.getSendTimeLimit().toMillis())
+                .setTimeToFirstMessage((int) properties.getTimeToFirstMessage().toMillis());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.taskExecutor().corePoolSize(properties.getInboundThreads())
+                .maxPoolSize(properties.getInboundThreads());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(properties.getOutboundThreads())
+                .maxPoolSize(properties.getOutboundThreads());
+    }
+}
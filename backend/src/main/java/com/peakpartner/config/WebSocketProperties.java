@@ -0,0 +1,23 @@
+package com.peakpartner.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+    // Heartbeats in both directions let either side drop dead connections
+    private Duration heartbeat = Duration.ofSeconds(25);
+    // Per-session limits kept small so thousands of idle sessions cost little memory
+    private int messageSizeLimit = 8 * 1024;
+    private int sendBufferSizeLimit = 64 * 1024;
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+    // Handshaken connections that never send CONNECT are closed after this
+    private Duration timeToFirstMessage = Duration.ofSeconds(30);
+    private int inboundThreads = 4;
+    private int outboundThreads = 4;
+}
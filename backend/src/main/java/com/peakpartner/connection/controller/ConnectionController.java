@@ -1,10 +1,10 @@
 package com.peakpartner.connection.controller;
 
+import com.peakpartner.auth.model.AuthenticatedUser;
 import com.peakpartner.common.dto.ApiResponse;
 import com.peakpartner.connection.dto.ConnectionRequest;
 import com.peakpartner.connection.dto.ConnectionResponse;
 import com.peakpartner.connection.service.ConnectionService;
-import com.peakpartner.profile.model.Profile;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -23,41 +23,41 @@ public class ConnectionController {
 
     @PostMapping
     public ResponseEntity<ApiResponse<ConnectionResponse>> sendRequest(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @Valid @RequestBody ConnectionRequest request) {
-        ConnectionResponse response = connectionService.sendRequest(currentUser.getId(), request);
+        ConnectionResponse response = connectionService.sendRequest(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Connection request sent", response));
     }
 
     @PutMapping("/{id}/accept")
     public ResponseEntity<ApiResponse<ConnectionResponse>> acceptRequest(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        ConnectionResponse response = connectionService.acceptRequest(currentUser.getId(), id);
+        ConnectionResponse response = connectionService.acceptRequest(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Connection request accepted", response));
     }
 
     @PutMapping("/{id}/decline")
     public ResponseEntity<ApiResponse<ConnectionResponse>> declineRequest(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        ConnectionResponse response = connectionService.declineRequest(currentUser.getId(), id);
+        ConnectionResponse response = connectionService.declineRequest(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Connection request declined", response));
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<ConnectionResponse>>> getMyConnections(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestParam(required = false) String status) {
         List<ConnectionResponse> connections = connectionService.getMyConnections(
-                currentUser.getId(), status);
+                currentUser.id(), status);
         return ResponseEntity.ok(ApiResponse.success(connections));
     }
 
     @GetMapping("/count")
     public ResponseEntity<ApiResponse<Long>> getActiveClientsCount(
-            @AuthenticationPrincipal Profile currentUser) {
-        long count = connectionService.getActiveClientsCount(currentUser.getId());
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        long count = connectionService.getActiveClientsCount(currentUser.id());
         return ResponseEntity.ok(ApiResponse.success("Active clients count", count));
     }
 }
@@ -1,11 +1,16 @@
 package com.peakpartner.connection.model;
 
+import com.peakpartner.common.etag.UserDataVersionListener;
+import com.peakpartner.common.id.GeneratedUuidV7;
+import com.peakpartner.config.EntityCacheConfig;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -15,7 +20,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserDataVersionListener.class)
 @Table(name = "connections")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.CONNECTIONS)
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,7 +31,7 @@ import java.util.UUID;
 public class Connection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,6 +66,9 @@ public class Connection {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     public enum ConnectionStatus {
         PENDING, ACCEPTED, DECLINED, CANCELLED
     }
@@ -1,7 +1,13 @@
 package com.peakpartner.connection.repository;
 
 import com.peakpartner.connection.model.Connection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,16 +17,42 @@ import java.util.UUID;
 @Repository
 public interface ConnectionRepository extends JpaRepository<Connection, UUID> {
 
+    /** Ids of every connection the user takes part in; bind {@code :userId}. */
+    String USER_CONNECTION_IDS = "SELECT uc.id FROM Connection uc WHERE uc.trainer.id = :userId OR uc.client.id = :userId";
+
+    // List views embed both full profiles, so they fetch-join them and load read-only
+    // (no snapshots kept, nothing dirty-checked at flush)
+
+    @EntityGraph(attributePaths = {"client", "trainer"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Connection> findByClientIdOrderByCreatedAtDesc(UUID clientId);
 
+    @EntityGraph(attributePaths = {"client", "trainer"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Connection> findByTrainerIdOrderByCreatedAtDesc(UUID trainerId);
 
+    @EntityGraph(attributePaths = {"client", "trainer"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Connection> findByTrainerIdAndStatus(UUID trainerId, Connection.ConnectionStatus status);
 
+    @EntityGraph(attributePaths = {"client", "trainer"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Connection> findByClientIdAndStatus(UUID clientId, Connection.ConnectionStatus status);
 
+    long countByTrainerIdAndStatus(UUID trainerId, Connection.ConnectionStatus status);
+
     Optional<Connection> findByClientIdAndTrainerId(UUID clientId, UUID trainerId);
 
     boolean existsByClientIdAndTrainerIdAndStatusIn(UUID clientId, UUID trainerId,
                                                      List<Connection.ConnectionStatus> statuses);
+
+    // Delta sync: rows written by transactions in [fromSeq, toSeq)
+
+    @EntityGraph(attributePaths = {"client", "trainer"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Connection c WHERE (c.trainer.id = :userId OR c.client.id = :userId) " +
+           "AND c.changeSeq >= :fromSeq AND c.changeSeq < :toSeq ORDER BY c.changeSeq")
+    List<Connection> findChangedForUser(@Param("userId") UUID userId,
+                                        @Param("fromSeq") long fromSeq,
+                                        @Param("toSeq") long toSeq);
 }
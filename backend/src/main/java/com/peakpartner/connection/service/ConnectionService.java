@@ -108,6 +108,7 @@ public class ConnectionService {
         return ConnectionResponse.fromEntity(connection);
     }
 
+    @Transactional(readOnly = true)
     public List<ConnectionResponse> getMyConnections(UUID userId, String status) {
         List<Connection> connections;
 
@@ -134,7 +135,8 @@ public class ConnectionService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public long getActiveClientsCount(UUID trainerId) {
-        return connectionRepository.findByTrainerIdAndStatus(trainerId, Connection.ConnectionStatus.ACCEPTED).size();
+        return connectionRepository.countByTrainerIdAndStatus(trainerId, Connection.ConnectionStatus.ACCEPTED);
     }
 }
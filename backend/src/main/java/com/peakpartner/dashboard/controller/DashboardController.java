@@ -0,0 +1,43 @@
+package com.peakpartner.dashboard.controller;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.common.dto.ApiResponse;
+import com.peakpartner.common.exception.UnauthorizedException;
+import com.peakpartner.dashboard.dto.ClientDashboardResponse;
+import com.peakpartner.dashboard.dto.TrainerDashboardResponse;
+import com.peakpartner.dashboard.service.DashboardService;
+import com.peakpartner.profile.model.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/trainer")
+    public ResponseEntity<ApiResponse<TrainerDashboardResponse>> getTrainerDashboard(
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        if (currentUser.role() != Profile.Role.TRAINER) {
+            throw new UnauthorizedException("Only trainers have a trainer dashboard");
+        }
+        TrainerDashboardResponse dashboard = dashboardService.getTrainerDashboard(currentUser.id());
+        return ResponseEntity.ok(ApiResponse.success("Dashboard retrieved", dashboard));
+    }
+
+    @GetMapping("/client")
+    public ResponseEntity<ApiResponse<ClientDashboardResponse>> getClientDashboard(
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        if (currentUser.role() != Profile.Role.CLIENT) {
+            throw new UnauthorizedException("Only clients have a client dashboard");
+        }
+        ClientDashboardResponse dashboard = dashboardService.getClientDashboard(currentUser.id());
+        return ResponseEntity.ok(ApiResponse.success("Dashboard retrieved", dashboard));
+    }
+}
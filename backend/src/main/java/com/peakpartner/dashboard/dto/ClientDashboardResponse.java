@@ -0,0 +1,30 @@
+package com.peakpartner.dashboard.dto;
+
+import com.peakpartner.assessment.dto.AssessmentResponse;
+import com.peakpartner.plan.dto.DietPlanResponse;
+import com.peakpartner.plan.dto.ExerciseLogResponse;
+import com.peakpartner.plan.dto.MealLogResponse;
+import com.peakpartner.plan.dto.WorkoutPlanResponse;
+import com.peakpartner.session.dto.RescheduleResponse;
+import com.peakpartner.session.dto.SessionResponse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ClientDashboardResponse {
+    private WorkoutPlanResponse activeWorkoutPlan;
+    // Day of the active plan scheduled for today (plan days cycle from the start date)
+    private WorkoutPlanResponse.PlanDayResponse todayWorkoutDay;
+    private DietPlanResponse activeDietPlan;
+    private List<SessionResponse> todaySessions;
+    private List<SessionResponse> upcomingSessions;
+    private List<AssessmentResponse> pendingAssessments;
+    private List<RescheduleResponse> pendingReschedules;
+    private List<ExerciseLogResponse> todayExerciseLogs;
+    private List<MealLogResponse> todayMealLogs;
+    // Sections that failed or timed out and are null in this payload
+    private List<String> degradedSections;
+}
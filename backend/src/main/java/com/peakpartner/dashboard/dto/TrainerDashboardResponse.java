@@ -0,0 +1,25 @@
+package com.peakpartner.dashboard.dto;
+
+import com.peakpartner.assessment.dto.AssessmentResponse;
+import com.peakpartner.connection.dto.ConnectionResponse;
+import com.peakpartner.profile.dto.ProfileResponse;
+import com.peakpartner.session.dto.RescheduleResponse;
+import com.peakpartner.session.dto.SessionResponse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TrainerDashboardResponse {
+    private ProfileResponse profile;
+    private Long activeClientCount;
+    private List<SessionResponse> todaySessions;
+    private List<SessionResponse> upcomingSessions;
+    private List<AssessmentResponse> assessments;
+    private List<ConnectionResponse> connections;
+    private List<RescheduleResponse> pendingReschedules;
+    // Sections that failed or timed out and are null in this payload
+    private List<String> degradedSections;
+}
@@ -0,0 +1,103 @@
+package com.peakpartner.dashboard.service;
+
+import com.peakpartner.common.querycount.QueryCountInspector;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * One dashboard request's fan-out: every section loads concurrently under its own timeout,
+ * and a section that fails or times out resolves to {@code null} and is reported as degraded
+ * instead of failing the whole payload. A section the executor rejects (queue full) is
+ * degraded straight away, and a section that already timed out skips its work when a worker
+ * finally picks it up.
+ *
+ * <p>SQL run by the sections is counted on the worker thread and added to the request's
+ * {@link QueryCountInspector} total in {@link #awaitAll()}; a section that is still running
+ * when it times out is left out of that total.
+ */
+@Slf4j
+class DashboardSections {
+
+    private final Executor executor;
+    private final Duration timeout;
+    private final Set<String> degraded = ConcurrentHashMap.newKeySet();
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+    private final List<String> order = new ArrayList<>();
+    private final AtomicInteger queries = new AtomicInteger();
+
+    DashboardSections(Executor executor, Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    <T> CompletableFuture<T> load(String name, Supplier<T> loader) {
+        order.add(name);
+        CompletableFuture<T> task = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                // Timed out while queued: nobody is waiting for the result any more
+                if (task.isDone()) {
+                    return;
+                }
+                QueryCountInspector.reset();
+                T result;
+                try {
+                    result = loader.get();
+                } catch (Throwable ex) {
+                    countQueries();
+                    task.completeExceptionally(ex);
+                    return;
+                }
+                // Counted before completing so awaitAll() sees it
+                countQueries();
+                task.complete(result);
+            });
+        } catch (RejectedExecutionException ex) {
+            // TaskRejectedException from ThreadPoolTaskExecutor once the queue is full
+            log.warn("Dashboard section '{}' degraded: executor rejected it", name);
+            degraded.add(name);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<T> future = task
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Dashboard section '{}' degraded: {}", name, ex.toString());
+                    degraded.add(name);
+                    return null;
+                });
+        pending.add(future);
+        return future;
+    }
+
+    // Moves this worker's statements into the request total; pooled threads keep no count
+    private void countQueries() {
+        queries.addAndGet(QueryCountInspector.current());
+        QueryCountInspector.clear();
+    }
+
+    /**
+     * Waits for every section, bounded by the per-section timeout, and adds the sections'
+     * statements to the calling request's query count.
+     */
+    void awaitAll() {
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        QueryCountInspector.add(queries.get());
+    }
+
+    List<String> degradedSections() {
+        return order.stream().filter(degraded::contains).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,161 @@
+package com.peakpartner.dashboard.service;
+
+import com.peakpartner.assessment.dto.AssessmentResponse;
+import com.peakpartner.assessment.service.AssessmentService;
+import com.peakpartner.config.DashboardConfig;
+import com.peakpartner.connection.dto.ConnectionResponse;
+import com.peakpartner.connection.service.ConnectionService;
+import com.peakpartner.dashboard.dto.ClientDashboardResponse;
+import com.peakpartner.dashboard.dto.TrainerDashboardResponse;
+import com.peakpartner.plan.dto.DietPlanResponse;
+import com.peakpartner.plan.dto.ExerciseLogResponse;
+import com.peakpartner.plan.dto.MealLogResponse;
+import com.peakpartner.plan.dto.WorkoutPlanResponse;
+import com.peakpartner.plan.service.PlanService;
+import com.peakpartner.profile.dto.ProfileResponse;
+import com.peakpartner.profile.service.ProfileService;
+import com.peakpartner.session.dto.RescheduleResponse;
+import com.peakpartner.session.dto.SessionResponse;
+import com.peakpartner.session.service.SessionService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Composite dashboard payloads. Each section runs its existing read-only service query on a
+ * small dedicated pool, so one round trip replaces the page's separate API calls.
+ */
+@Service
+public class DashboardService implements DisposableBean {
+
+    private final ProfileService profileService;
+    private final ConnectionService connectionService;
+    private final SessionService sessionService;
+    private final AssessmentService assessmentService;
+    private final PlanService planService;
+    private final DashboardConfig dashboardConfig;
+    private final ThreadPoolTaskExecutor executor;
+
+    public DashboardService(ProfileService profileService,
+                            ConnectionService connectionService,
+                            SessionService sessionService,
+                            AssessmentService assessmentService,
+                            PlanService planService,
+                            DashboardConfig dashboardConfig) {
+        this.profileService = profileService;
+        this.connectionService = connectionService;
+        this.sessionService = sessionService;
+        this.assessmentService = assessmentService;
+        this.planService = planService;
+        this.dashboardConfig = dashboardConfig;
+
+        // Not a bean: exposing an Executor would replace Boot's applicationTaskExecutor
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setCorePoolSize(dashboardConfig.getExecutorThreads());
+        executor.setMaxPoolSize(dashboardConfig.getExecutorThreads());
+        executor.setQueueCapacity(dashboardConfig.getExecutorQueueCapacity());
+        executor.initialize();
+    }
+
+    public TrainerDashboardResponse getTrainerDashboard(UUID trainerId) {
+        DashboardSections sections = new DashboardSections(executor, dashboardConfig.getSectionTimeout());
+
+        CompletableFuture<ProfileResponse> profile =
+                sections.load("profile", () -> profileService.getMyProfile(trainerId));
+        CompletableFuture<Long> activeClientCount =
+                sections.load("activeClientCount", () -> connectionService.getActiveClientsCount(trainerId));
+        CompletableFuture<List<SessionResponse>> todaySessions =
+                sections.load("todaySessions", () -> sessionService.getTodaysSessionsForTrainer(trainerId));
+        CompletableFuture<List<SessionResponse>> upcomingSessions =
+                sections.load("upcomingSessions", () -> sessionService.getUpcomingSessionsForTrainer(trainerId));
+        CompletableFuture<List<AssessmentResponse>> assessments =
+                sections.load("assessments", () -> assessmentService.getAssessmentsForTrainer(trainerId));
+        CompletableFuture<List<ConnectionResponse>> connections =
+                sections.load("connections", () -> connectionService.getMyConnections(trainerId, "ACCEPTED"));
+        CompletableFuture<List<RescheduleResponse>> pendingReschedules =
+                sections.load("pendingReschedules", () -> sessionService.getPendingRescheduleRequestsForUser(trainerId));
+
+        sections.awaitAll();
+
+        return TrainerDashboardResponse.builder()
+                .profile(profile.join())
+                .activeClientCount(activeClientCount.join())
+                .todaySessions(todaySessions.join())
+                .upcomingSessions(upcomingSessions.join())
+                .assessments(assessments.join())
+                .connections(connections.join())
+                .pendingReschedules(pendingReschedules.join())
+                .degradedSections(sections.degradedSections())
+                .build();
+    }
+
+    /**
+     * Client dashboard in a fixed number of queries: the plan trees are loaded root-first and
+     * hydrated per level, so plan size never adds queries.
+     */
+    public ClientDashboardResponse getClientDashboard(UUID clientId) {
+        DashboardSections sections = new DashboardSections(executor, dashboardConfig.getSectionTimeout());
+        LocalDate today = LocalDate.now();
+
+        CompletableFuture<WorkoutPlanResponse> workoutPlan =
+                sections.load("activeWorkoutPlan", () -> planService.getActiveWorkoutPlanForClient(clientId));
+        CompletableFuture<DietPlanResponse> dietPlan =
+                sections.load("activeDietPlan", () -> planService.getActiveDietPlanForClient(clientId));
+        CompletableFuture<List<SessionResponse>> todaySessions =
+                sections.load("todaySessions", () -> sessionService.getTodaysSessionsForClient(clientId));
+        CompletableFuture<List<SessionResponse>> upcomingSessions =
+                sections.load("upcomingSessions", () -> sessionService.getUpcomingSessionsForClient(clientId));
+        CompletableFuture<List<AssessmentResponse>> pendingAssessments =
+                sections.load("pendingAssessments", () -> assessmentService.getPendingAssessmentsForClient(clientId));
+        CompletableFuture<List<RescheduleResponse>> pendingReschedules =
+                sections.load("pendingReschedules", () -> sessionService.getPendingRescheduleRequestsForUser(clientId));
+        CompletableFuture<List<ExerciseLogResponse>> exerciseLogs =
+                sections.load("todayExerciseLogs", () -> planService.getExerciseLogsByUserAndDate(clientId, today));
+        CompletableFuture<List<MealLogResponse>> mealLogs =
+                sections.load("todayMealLogs", () -> planService.getMealLogsByClientAndDate(clientId, today));
+
+        sections.awaitAll();
+
+        WorkoutPlanResponse activeWorkoutPlan = workoutPlan.join();
+        return ClientDashboardResponse.builder()
+                .activeWorkoutPlan(activeWorkoutPlan)
+                .todayWorkoutDay(resolveDay(activeWorkoutPlan, today))
+                .activeDietPlan(dietPlan.join())
+                .todaySessions(todaySessions.join())
+                .upcomingSessions(upcomingSessions.join())
+                .pendingAssessments(pendingAssessments.join())
+                .pendingReschedules(pendingReschedules.join())
+                .todayExerciseLogs(exerciseLogs.join())
+                .todayMealLogs(mealLogs.join())
+                .degradedSections(sections.degradedSections())
+                .build();
+    }
+
+    // Plan days repeat in order from the start date: day N is scheduled on start + (N-1) + k * days
+    private static WorkoutPlanResponse.PlanDayResponse resolveDay(WorkoutPlanResponse plan, LocalDate date) {
+        if (plan == null || plan.getStartDate() == null || plan.getDays() == null || plan.getDays().isEmpty()) {
+            return null;
+        }
+        long elapsed = ChronoUnit.DAYS.between(plan.getStartDate(), date);
+        if (elapsed < 0) {
+            return null;
+        }
+        int dayNumber = (int) (elapsed % plan.getDays().size()) + 1;
+        return plan.getDays().stream()
+                .filter(d -> d.getDayNumber() != null && d.getDayNumber() == dayNumber)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
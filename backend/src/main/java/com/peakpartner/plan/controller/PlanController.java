@@ -1,9 +1,10 @@
 package com.peakpartner.plan.controller;
 
+import com.peakpartner.auth.model.AuthenticatedUser;
 import com.peakpartner.common.dto.ApiResponse;
+import com.peakpartner.common.pagination.CursorPage;
 import com.peakpartner.plan.dto.*;
 import com.peakpartner.plan.service.PlanService;
-import com.peakpartner.profile.model.Profile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -25,24 +26,24 @@ public class PlanController {
 
     @PostMapping("/workout")
     public ResponseEntity<ApiResponse<WorkoutPlanResponse>> createWorkoutPlan(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestBody CreateWorkoutPlanRequest request) {
-        WorkoutPlanResponse plan = planService.createWorkoutPlan(currentUser.getId(), request);
+        WorkoutPlanResponse plan = planService.createWorkoutPlan(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Workout plan created", plan));
     }
 
     @GetMapping("/workout")
     public ResponseEntity<ApiResponse<List<WorkoutPlanResponse>>> getWorkoutPlans(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestParam(required = false) String role,
             @RequestParam(required = false) UUID connectionId) {
         List<WorkoutPlanResponse> plans;
         if (connectionId != null) {
             plans = planService.getWorkoutPlansByConnection(connectionId);
         } else if ("client".equalsIgnoreCase(role)) {
-            plans = planService.getWorkoutPlansByClient(currentUser.getId());
+            plans = planService.getWorkoutPlansByClient(currentUser.id());
         } else {
-            plans = planService.getWorkoutPlansByTrainer(currentUser.getId());
+            plans = planService.getWorkoutPlansByTrainer(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success("Workout plans retrieved", plans));
     }
@@ -55,17 +56,17 @@ public class PlanController {
 
     @PutMapping("/workout/{id}/activate")
     public ResponseEntity<ApiResponse<WorkoutPlanResponse>> activateWorkoutPlan(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        WorkoutPlanResponse plan = planService.activateWorkoutPlan(currentUser.getId(), id);
+        WorkoutPlanResponse plan = planService.activateWorkoutPlan(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Workout plan activated", plan));
     }
 
     @PutMapping("/workout/{id}/cancel")
     public ResponseEntity<ApiResponse<WorkoutPlanResponse>> cancelWorkoutPlan(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        WorkoutPlanResponse plan = planService.cancelWorkoutPlan(currentUser.getId(), id);
+        WorkoutPlanResponse plan = planService.cancelWorkoutPlan(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Workout plan cancelled", plan));
     }
 
@@ -73,24 +74,24 @@ public class PlanController {
 
     @PostMapping("/diet")
     public ResponseEntity<ApiResponse<DietPlanResponse>> createDietPlan(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestBody CreateDietPlanRequest request) {
-        DietPlanResponse plan = planService.createDietPlan(currentUser.getId(), request);
+        DietPlanResponse plan = planService.createDietPlan(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Diet plan created", plan));
     }
 
     @GetMapping("/diet")
     public ResponseEntity<ApiResponse<List<DietPlanResponse>>> getDietPlans(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestParam(required = false) String role,
             @RequestParam(required = false) UUID connectionId) {
         List<DietPlanResponse> plans;
         if (connectionId != null) {
             plans = planService.getDietPlansByConnection(connectionId);
         } else if ("client".equalsIgnoreCase(role)) {
-            plans = planService.getDietPlansByClient(currentUser.getId());
+            plans = planService.getDietPlansByClient(currentUser.id());
         } else {
-            plans = planService.getDietPlansByTrainer(currentUser.getId());
+            plans = planService.getDietPlansByTrainer(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success("Diet plans retrieved", plans));
     }
@@ -103,17 +104,17 @@ public class PlanController {
 
     @PutMapping("/diet/{id}/activate")
     public ResponseEntity<ApiResponse<DietPlanResponse>> activateDietPlan(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        DietPlanResponse plan = planService.activateDietPlan(currentUser.getId(), id);
+        DietPlanResponse plan = planService.activateDietPlan(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Diet plan activated", plan));
     }
 
     @PutMapping("/diet/{id}/cancel")
     public ResponseEntity<ApiResponse<DietPlanResponse>> cancelDietPlan(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        DietPlanResponse plan = planService.cancelDietPlan(currentUser.getId(), id);
+        DietPlanResponse plan = planService.cancelDietPlan(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Diet plan cancelled", plan));
     }
 
@@ -121,16 +122,26 @@ public class PlanController {
 
     @PostMapping("/exercise-logs")
     public ResponseEntity<ApiResponse<ExerciseLogResponse>> createExerciseLog(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestBody CreateExerciseLogRequest request) {
-        ExerciseLogResponse log = planService.createExerciseLog(currentUser.getId(), request);
+        ExerciseLogResponse log = planService.createExerciseLog(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Exercise logged", log));
     }
 
+    /**
+     * Returns a {@link CursorPage} when {@code cursor} or {@code limit} is given; otherwise the
+     * legacy capped list, so existing clients keep working.
+     */
     @GetMapping("/exercise-logs")
-    public ResponseEntity<ApiResponse<List<ExerciseLogResponse>>> getExerciseLogs(
+    public ResponseEntity<ApiResponse<?>> getExerciseLogs(
             @RequestParam UUID connectionId,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        if (date == null && (cursor != null || limit != null)) {
+            CursorPage<ExerciseLogResponse> page = planService.getExerciseLogPage(connectionId, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success("Exercise logs retrieved", page));
+        }
         List<ExerciseLogResponse> logs;
         if (date != null) {
             logs = planService.getExerciseLogsByConnectionAndDate(connectionId, date);
@@ -144,17 +155,30 @@ public class PlanController {
 
     @PostMapping("/meal-logs")
     public ResponseEntity<ApiResponse<MealLogResponse>> createMealLog(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestBody CreateMealLogRequest request) {
-        MealLogResponse log = planService.createMealLog(currentUser.getId(), request);
+        MealLogResponse log = planService.createMealLog(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Meal logged", log));
     }
 
+    /**
+     * Returns a {@link CursorPage} when any of {@code from}, {@code to}, {@code cursor} or {@code limit}
+     * is given; otherwise the legacy capped list.
+     */
     @GetMapping("/meal-logs")
-    public ResponseEntity<ApiResponse<List<MealLogResponse>>> getMealLogs(
+    public ResponseEntity<ApiResponse<?>> getMealLogs(
             @RequestParam(required = false) UUID connectionId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam(required = false) UUID clientId) {
+            @RequestParam(required = false) UUID clientId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        boolean paged = from != null || to != null || cursor != null || limit != null;
+        if (date == null && paged && (connectionId != null || clientId != null)) {
+            CursorPage<MealLogResponse> page = planService.getMealLogPage(connectionId, clientId, from, to, cursor, limit);
+            return ResponseEntity.ok(ApiResponse.success("Meal logs retrieved", page));
+        }
         List<MealLogResponse> logs;
         if (connectionId != null && date != null) {
             logs = planService.getMealLogsByConnectionAndDate(connectionId, date);
@@ -170,9 +194,9 @@ public class PlanController {
 
     @PutMapping("/meal-logs/{id}/verify")
     public ResponseEntity<ApiResponse<MealLogResponse>> verifyMealLog(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        MealLogResponse log = planService.verifyMealLog(currentUser.getId(), id);
+        MealLogResponse log = planService.verifyMealLog(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Meal log verified", log));
     }
 }
@@ -1,6 +1,7 @@
 package com.peakpartner.plan.dto;
 
 import com.peakpartner.plan.model.ExerciseLog;
+import com.peakpartner.plan.repository.projection.ExerciseLogRow;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -45,4 +46,24 @@ public class ExerciseLogResponse {
         r.setCreatedAt(log.getCreatedAt());
         return r;
     }
+
+    public static ExerciseLogResponse fromRow(ExerciseLogRow row) {
+        ExerciseLogResponse r = new ExerciseLogResponse();
+        r.setId(row.id());
+        r.setConnectionId(row.connectionId());
+        r.setLoggedById(row.loggedById());
+        r.setLoggedByName(row.loggedByName());
+        r.setPlanExerciseId(row.planExerciseId());
+        r.setExerciseName(row.exerciseName());
+        r.setLogDate(row.logDate());
+        r.setSetsCompleted(row.setsCompleted());
+        r.setRepsCompleted(row.repsCompleted());
+        r.setWeightUsed(row.weightUsed());
+        r.setWeightUnit(row.weightUnit());
+        r.setDurationSeconds(row.durationSeconds());
+        r.setIsPr(row.isPr());
+        r.setNotes(row.notes());
+        r.setCreatedAt(row.createdAt());
+        return r;
+    }
 }
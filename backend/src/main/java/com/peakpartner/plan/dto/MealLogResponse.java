@@ -1,6 +1,7 @@
 package com.peakpartner.plan.dto;
 
 import com.peakpartner.plan.model.MealLog;
+import com.peakpartner.plan.repository.projection.MealLogRow;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -51,4 +52,27 @@ public class MealLogResponse {
         r.setCreatedAt(log.getCreatedAt());
         return r;
     }
+
+    public static MealLogResponse fromRow(MealLogRow row) {
+        MealLogResponse r = new MealLogResponse();
+        r.setId(row.id());
+        r.setConnectionId(row.connectionId());
+        r.setClientId(row.clientId());
+        r.setClientName(row.clientName());
+        r.setDietMealId(row.dietMealId());
+        r.setLogDate(row.logDate());
+        r.setMealName(row.mealName());
+        r.setCompliance(row.compliance() != null ? row.compliance().name() : null);
+        r.setPhotoUrl(row.photoUrl());
+        r.setItemsConsumed(row.itemsConsumed());
+        r.setEstimatedCalories(row.estimatedCalories());
+        r.setProteinGrams(row.proteinGrams());
+        r.setCarbsGrams(row.carbsGrams());
+        r.setFatGrams(row.fatGrams());
+        r.setNotes(row.notes());
+        r.setTrainerVerified(row.trainerVerified());
+        r.setTrainerVerifiedAt(row.trainerVerifiedAt());
+        r.setCreatedAt(row.createdAt());
+        return r;
+    }
 }
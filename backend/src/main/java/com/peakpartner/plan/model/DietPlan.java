@@ -1,5 +1,6 @@
 package com.peakpartner.plan.model;
 
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
@@ -24,7 +25,7 @@ import java.util.UUID;
 public class DietPlan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -84,5 +85,8 @@ public class DietPlan {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     public enum DietPlanStatus { DRAFT, ACTIVE, COMPLETED, ARCHIVED }
 }
@@ -1,5 +1,6 @@
 package com.peakpartner.plan.model;
 
+import com.peakpartner.common.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,7 +18,7 @@ import java.util.UUID;
 public class DietPlanMeal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.peakpartner.plan.model;
 
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class ExerciseLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -65,4 +66,7 @@ public class ExerciseLog {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
 }
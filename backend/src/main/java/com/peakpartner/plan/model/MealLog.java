@@ -1,5 +1,6 @@
 package com.peakpartner.plan.model;
 
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class MealLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -79,5 +80,8 @@ public class MealLog {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     public enum MealCompliance { ON_PLAN, PARTIAL, OFF_PLAN, SKIPPED }
 }
@@ -1,5 +1,7 @@
 package com.peakpartner.plan.model;
 
+import com.peakpartner.common.etag.UserDataVersionListener;
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
@@ -16,6 +18,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserDataVersionListener.class)
 @Table(name = "workout_plans")
 @Data
 @Builder
@@ -24,7 +27,7 @@ import java.util.UUID;
 public class WorkoutPlan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -79,6 +82,9 @@ public class WorkoutPlan {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     public enum PlanDuration { WEEKLY, MONTHLY, CUSTOM }
     public enum PlanStatus { DRAFT, ACTIVE, COMPLETED, ARCHIVED }
 }
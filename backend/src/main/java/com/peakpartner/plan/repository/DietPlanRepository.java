@@ -1,10 +1,17 @@
 package com.peakpartner.plan.repository;
 
+import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.plan.model.DietPlan;
+import com.peakpartner.plan.model.DietPlanMeal;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -19,4 +26,40 @@ public interface DietPlanRepository extends JpaRepository<DietPlan, UUID> {
     List<DietPlan> findByClientIdAndStatus(UUID clientId, DietPlan.DietPlanStatus status);
 
     List<DietPlan> findByConnectionIdAndStatus(UUID connectionId, DietPlan.DietPlanStatus status);
+
+    // Plan roots with both participants fetch-joined; meals/items are hydrated by DietPlanTreeLoader
+
+    @Query("SELECT p FROM DietPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.trainer.id = :trainerId ORDER BY p.createdAt DESC")
+    List<DietPlan> findRootsByTrainerId(@Param("trainerId") UUID trainerId);
+
+    @Query("SELECT p FROM DietPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.client.id = :clientId ORDER BY p.createdAt DESC")
+    List<DietPlan> findRootsByClientId(@Param("clientId") UUID clientId);
+
+    @Query("SELECT p FROM DietPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.connection.id = :connectionId ORDER BY p.createdAt DESC")
+    List<DietPlan> findRootsByConnectionId(@Param("connectionId") UUID connectionId);
+
+    @Query("SELECT p FROM DietPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.client.id = :clientId AND p.status = :status ORDER BY p.createdAt DESC")
+    List<DietPlan> findRootsByClientIdAndStatus(@Param("clientId") UUID clientId,
+                                                @Param("status") DietPlan.DietPlanStatus status,
+                                                Pageable pageable);
+
+    @Query("SELECT p FROM DietPlan p JOIN FETCH p.trainer JOIN FETCH p.client WHERE p.id = :planId")
+    Optional<DietPlan> findRootById(@Param("planId") UUID planId);
+
+    @Query("SELECT DISTINCT p FROM DietPlan p LEFT JOIN FETCH p.meals WHERE p.id IN :planIds")
+    List<DietPlan> fetchMeals(@Param("planIds") Collection<UUID> planIds);
+
+    @Query("SELECT DISTINCT m FROM DietPlanMeal m LEFT JOIN FETCH m.items WHERE m.dietPlan.id IN :planIds")
+    List<DietPlanMeal> fetchItems(@Param("planIds") Collection<UUID> planIds);
+
+    @Query("SELECT p FROM DietPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND p.changeSeq >= :fromSeq AND p.changeSeq < :toSeq ORDER BY p.changeSeq")
+    List<DietPlan> findRootsChangedForUser(@Param("userId") UUID userId,
+                                           @Param("fromSeq") long fromSeq,
+                                           @Param("toSeq") long toSeq);
 }
@@ -0,0 +1,36 @@
+package com.peakpartner.plan.repository;
+
+import com.peakpartner.plan.model.DietPlan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hydrates the meals and meal items of a list of diet plans in two batched queries
+ * keyed on plan ids. Together with the root query that is at most three round trips
+ * per list, however many meals the plans have.
+ * Must run inside the transaction that loaded the plans.
+ */
+@Component
+@RequiredArgsConstructor
+public class DietPlanTreeLoader {
+
+    private final DietPlanRepository dietPlanRepository;
+
+    public List<DietPlan> hydrate(List<DietPlan> plans) {
+        if (plans.isEmpty()) {
+            return plans;
+        }
+        List<UUID> planIds = plans.stream().map(DietPlan::getId).toList();
+        dietPlanRepository.fetchMeals(planIds);
+        dietPlanRepository.fetchItems(planIds);
+        return plans;
+    }
+
+    public DietPlan hydrate(DietPlan plan) {
+        hydrate(List.of(plan));
+        return plan;
+    }
+}
@@ -1,19 +1,54 @@
 package com.peakpartner.plan.repository;
 
+import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.plan.model.ExerciseLog;
+import com.peakpartner.plan.repository.projection.ExerciseLogRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ExerciseLogRepository extends JpaRepository<ExerciseLog, UUID> {
 
-    List<ExerciseLog> findByConnectionIdAndLogDateOrderByCreatedAtDesc(UUID connectionId, LocalDate logDate);
+    String ROW_SELECT = "SELECT new com.peakpartner.plan.repository.projection.ExerciseLogRow(" +
+            "e.id, e.connection.id, lb.id, lb.fullName, e.planExercise.id, e.exerciseName, e.logDate, " +
+            "e.setsCompleted, e.repsCompleted, e.weightUsed, e.weightUnit, e.durationSeconds, e.isPr, " +
+            "e.notes, e.createdAt) FROM ExerciseLog e JOIN e.loggedBy lb ";
 
-    List<ExerciseLog> findByConnectionIdOrderByLogDateDescCreatedAtDesc(UUID connectionId);
+    @Query(ROW_SELECT + "WHERE lb.id = :userId AND e.logDate = :logDate ORDER BY e.createdAt DESC")
+    List<ExerciseLogRow> findRowsByLoggedByAndDate(@Param("userId") UUID userId,
+                                                   @Param("logDate") LocalDate logDate);
 
-    List<ExerciseLog> findByLoggedByIdAndLogDate(UUID userId, LocalDate logDate);
+    @Query(ROW_SELECT + "WHERE e.connection.id = :connectionId AND e.logDate = :logDate ORDER BY e.createdAt DESC")
+    List<ExerciseLogRow> findRowsByConnectionAndDate(@Param("connectionId") UUID connectionId,
+                                                     @Param("logDate") LocalDate logDate);
+
+    // Keyset pagination on (log_date, created_at, id), served by idx_exercise_logs_connection_keyset
+
+    @Query(ROW_SELECT + "WHERE e.connection.id = :connectionId " +
+           "ORDER BY e.logDate DESC, e.createdAt DESC, e.id DESC")
+    List<ExerciseLogRow> findFirstPage(@Param("connectionId") UUID connectionId, Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE e.connection.id = :connectionId " +
+           "AND (e.logDate < :logDate OR (e.logDate = :logDate AND (e.createdAt < :createdAt " +
+           "OR (e.createdAt = :createdAt AND e.id < :id)))) " +
+           "ORDER BY e.logDate DESC, e.createdAt DESC, e.id DESC")
+    List<ExerciseLogRow> findPageAfter(@Param("connectionId") UUID connectionId,
+                                       @Param("logDate") LocalDate logDate,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE e.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND e.changeSeq >= :fromSeq AND e.changeSeq < :toSeq ORDER BY e.changeSeq")
+    List<ExerciseLogRow> findRowsChangedForUser(@Param("userId") UUID userId,
+                                                @Param("fromSeq") long fromSeq,
+                                                @Param("toSeq") long toSeq);
 }
@@ -1,21 +1,83 @@
 package com.peakpartner.plan.repository;
 
+import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.plan.model.MealLog;
+import com.peakpartner.plan.repository.projection.MealLogRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface MealLogRepository extends JpaRepository<MealLog, UUID> {
 
-    List<MealLog> findByConnectionIdAndLogDateOrderByCreatedAtDesc(UUID connectionId, LocalDate logDate);
+    String ROW_SELECT = "SELECT new com.peakpartner.plan.repository.projection.MealLogRow(" +
+            "m.id, m.connection.id, c.id, c.fullName, m.dietMeal.id, m.logDate, m.mealName, m.compliance, " +
+            "m.photoUrl, m.itemsConsumed, m.estimatedCalories, m.proteinGrams, m.carbsGrams, m.fatGrams, " +
+            "m.notes, m.trainerVerified, m.trainerVerifiedAt, m.createdAt) FROM MealLog m JOIN m.client c ";
 
-    List<MealLog> findByConnectionIdOrderByLogDateDescCreatedAtDesc(UUID connectionId);
+    @Query(ROW_SELECT + "WHERE c.id = :clientId AND m.logDate = :logDate ORDER BY m.createdAt DESC")
+    List<MealLogRow> findRowsByClientAndDate(@Param("clientId") UUID clientId,
+                                             @Param("logDate") LocalDate logDate);
 
-    List<MealLog> findByClientIdAndLogDate(UUID clientId, LocalDate logDate);
+    @Query(ROW_SELECT + "WHERE m.connection.id = :connectionId AND m.logDate = :logDate ORDER BY m.createdAt DESC")
+    List<MealLogRow> findRowsByConnectionAndDate(@Param("connectionId") UUID connectionId,
+                                                 @Param("logDate") LocalDate logDate);
 
-    List<MealLog> findByClientIdOrderByLogDateDescCreatedAtDesc(UUID clientId);
+    // Keyset pagination on (log_date, created_at, id) within a date range,
+    // served by idx_meal_logs_connection_keyset / idx_meal_logs_client_keyset
+
+    @Query(ROW_SELECT + "WHERE m.connection.id = :connectionId " +
+           "AND m.logDate BETWEEN :from AND :to " +
+           "ORDER BY m.logDate DESC, m.createdAt DESC, m.id DESC")
+    List<MealLogRow> findFirstPageByConnection(@Param("connectionId") UUID connectionId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE m.connection.id = :connectionId " +
+           "AND m.logDate BETWEEN :from AND :to " +
+           "AND (m.logDate < :logDate OR (m.logDate = :logDate AND (m.createdAt < :createdAt " +
+           "OR (m.createdAt = :createdAt AND m.id < :id)))) " +
+           "ORDER BY m.logDate DESC, m.createdAt DESC, m.id DESC")
+    List<MealLogRow> findPageByConnectionAfter(@Param("connectionId") UUID connectionId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               @Param("logDate") LocalDate logDate,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE m.client.id = :clientId " +
+           "AND m.logDate BETWEEN :from AND :to " +
+           "ORDER BY m.logDate DESC, m.createdAt DESC, m.id DESC")
+    List<MealLogRow> findFirstPageByClient(@Param("clientId") UUID clientId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE m.client.id = :clientId " +
+           "AND m.logDate BETWEEN :from AND :to " +
+           "AND (m.logDate < :logDate OR (m.logDate = :logDate AND (m.createdAt < :createdAt " +
+           "OR (m.createdAt = :createdAt AND m.id < :id)))) " +
+           "ORDER BY m.logDate DESC, m.createdAt DESC, m.id DESC")
+    List<MealLogRow> findPageByClientAfter(@Param("clientId") UUID clientId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("logDate") LocalDate logDate,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") UUID id,
+                                           Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE m.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND m.changeSeq >= :fromSeq AND m.changeSeq < :toSeq ORDER BY m.changeSeq")
+    List<MealLogRow> findRowsChangedForUser(@Param("userId") UUID userId,
+                                            @Param("fromSeq") long fromSeq,
+                                            @Param("toSeq") long toSeq);
 }
@@ -1,10 +1,17 @@
 package com.peakpartner.plan.repository;
 
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.plan.model.PlanDay;
 import com.peakpartner.plan.model.WorkoutPlan;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -19,4 +26,40 @@ public interface WorkoutPlanRepository extends JpaRepository<WorkoutPlan, UUID>
     List<WorkoutPlan> findByClientIdAndStatus(UUID clientId, WorkoutPlan.PlanStatus status);
 
     List<WorkoutPlan> findByConnectionIdAndStatus(UUID connectionId, WorkoutPlan.PlanStatus status);
+
+    // Plan roots with both participants fetch-joined; days/exercises are hydrated by WorkoutPlanTreeLoader
+
+    @Query("SELECT p FROM WorkoutPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.trainer.id = :trainerId ORDER BY p.createdAt DESC")
+    List<WorkoutPlan> findRootsByTrainerId(@Param("trainerId") UUID trainerId);
+
+    @Query("SELECT p FROM WorkoutPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.client.id = :clientId ORDER BY p.createdAt DESC")
+    List<WorkoutPlan> findRootsByClientId(@Param("clientId") UUID clientId);
+
+    @Query("SELECT p FROM WorkoutPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.connection.id = :connectionId ORDER BY p.createdAt DESC")
+    List<WorkoutPlan> findRootsByConnectionId(@Param("connectionId") UUID connectionId);
+
+    @Query("SELECT p FROM WorkoutPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.client.id = :clientId AND p.status = :status ORDER BY p.createdAt DESC")
+    List<WorkoutPlan> findRootsByClientIdAndStatus(@Param("clientId") UUID clientId,
+                                                   @Param("status") WorkoutPlan.PlanStatus status,
+                                                   Pageable pageable);
+
+    @Query("SELECT p FROM WorkoutPlan p JOIN FETCH p.trainer JOIN FETCH p.client WHERE p.id = :planId")
+    Optional<WorkoutPlan> findRootById(@Param("planId") UUID planId);
+
+    @Query("SELECT DISTINCT p FROM WorkoutPlan p LEFT JOIN FETCH p.days WHERE p.id IN :planIds")
+    List<WorkoutPlan> fetchDays(@Param("planIds") Collection<UUID> planIds);
+
+    @Query("SELECT DISTINCT d FROM PlanDay d LEFT JOIN FETCH d.exercises WHERE d.plan.id IN :planIds")
+    List<PlanDay> fetchExercises(@Param("planIds") Collection<UUID> planIds);
+
+    @Query("SELECT p FROM WorkoutPlan p JOIN FETCH p.trainer JOIN FETCH p.client " +
+           "WHERE p.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND p.changeSeq >= :fromSeq AND p.changeSeq < :toSeq ORDER BY p.changeSeq")
+    List<WorkoutPlan> findRootsChangedForUser(@Param("userId") UUID userId,
+                                              @Param("fromSeq") long fromSeq,
+                                              @Param("toSeq") long toSeq);
 }
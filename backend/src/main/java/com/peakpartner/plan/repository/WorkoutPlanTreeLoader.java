@@ -0,0 +1,37 @@
+package com.peakpartner.plan.repository;
+
+import com.peakpartner.plan.model.WorkoutPlan;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hydrates the days and exercises of a list of workout plans in two batched queries
+ * keyed on plan ids, instead of one lazy load per plan and per day.
+ * Must run inside the transaction that loaded the plans so the fetched rows land
+ * in the same persistence context.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutPlanTreeLoader {
+
+    private final WorkoutPlanRepository workoutPlanRepository;
+
+    public List<WorkoutPlan> hydrate(List<WorkoutPlan> plans) {
+        if (plans.isEmpty()) {
+            return plans;
+        }
+        List<UUID> planIds = plans.stream().map(WorkoutPlan::getId).toList();
+        // Days and exercises are both bags, so they cannot be fetched in one query
+        workoutPlanRepository.fetchDays(planIds);
+        workoutPlanRepository.fetchExercises(planIds);
+        return plans;
+    }
+
+    public WorkoutPlan hydrate(WorkoutPlan plan) {
+        hydrate(List.of(plan));
+        return plan;
+    }
+}
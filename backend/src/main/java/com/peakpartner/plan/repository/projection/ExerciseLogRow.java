@@ -0,0 +1,28 @@
+package com.peakpartner.plan.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an exercise log row, selected with a JPQL constructor expression.
+ * Never enters the persistence context, so it is not dirty-checked at flush.
+ */
+public record ExerciseLogRow(
+        UUID id,
+        UUID connectionId,
+        UUID loggedById,
+        String loggedByName,
+        UUID planExerciseId,
+        String exerciseName,
+        LocalDate logDate,
+        Integer setsCompleted,
+        Integer repsCompleted,
+        BigDecimal weightUsed,
+        String weightUnit,
+        Integer durationSeconds,
+        Boolean isPr,
+        String notes,
+        LocalDateTime createdAt) {
+}
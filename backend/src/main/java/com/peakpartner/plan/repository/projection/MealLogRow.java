@@ -0,0 +1,32 @@
+package com.peakpartner.plan.repository.projection;
+
+import com.peakpartner.plan.model.MealLog;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a meal log row, selected with a JPQL constructor expression.
+ */
+public record MealLogRow(
+        UUID id,
+        UUID connectionId,
+        UUID clientId,
+        String clientName,
+        UUID dietMealId,
+        LocalDate logDate,
+        String mealName,
+        MealLog.MealCompliance compliance,
+        String photoUrl,
+        String itemsConsumed,
+        Integer estimatedCalories,
+        BigDecimal proteinGrams,
+        BigDecimal carbsGrams,
+        BigDecimal fatGrams,
+        String notes,
+        Boolean trainerVerified,
+        LocalDateTime trainerVerifiedAt,
+        LocalDateTime createdAt) {
+}
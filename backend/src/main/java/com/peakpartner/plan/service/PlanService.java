@@ -1,20 +1,31 @@
 package com.peakpartner.plan.service;
 
+import com.peakpartner.common.pagination.CursorPage;
+import com.peakpartner.common.pagination.KeysetCursor;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.plan.dto.*;
 import com.peakpartner.plan.model.*;
 import com.peakpartner.plan.repository.*;
+import com.peakpartner.plan.repository.projection.ExerciseLogRow;
+import com.peakpartner.plan.repository.projection.MealLogRow;
 import com.peakpartner.profile.model.Profile;
 import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.realtime.event.RealtimeEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -23,12 +34,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlanService {
 
+    private static final int LEGACY_LOG_LIMIT = 500;
+    // Open-ended date ranges are bound to these instead of null parameters so the planner
+    // always sees a plain range predicate on log_date
+    private static final LocalDate MIN_LOG_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_LOG_DATE = LocalDate.of(9999, 12, 31);
+
     private final WorkoutPlanRepository workoutPlanRepository;
+    private final WorkoutPlanTreeLoader workoutPlanTreeLoader;
     private final DietPlanRepository dietPlanRepository;
+    private final DietPlanTreeLoader dietPlanTreeLoader;
     private final ExerciseLogRepository exerciseLogRepository;
     private final MealLogRepository mealLogRepository;
     private final ConnectionRepository connectionRepository;
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Keyset position in a log history ordered by (log_date, created_at, id) descending. */
+    private record LogCursor(LocalDate logDate, LocalDateTime createdAt, UUID id) {
+
+        static String encode(LocalDate logDate, LocalDateTime createdAt, UUID id) {
+            return KeysetCursor.encode(logDate, createdAt, id);
+        }
+
+        static LogCursor decode(String cursor) {
+            return KeysetCursor.decode(cursor, 3, keys -> new LogCursor(
+                    LocalDate.parse(keys[0]), LocalDateTime.parse(keys[1]), UUID.fromString(keys[2])));
+        }
+    }
 
     // ==================== WORKOUT PLANS ====================
 
@@ -95,29 +128,45 @@ public class PlanService {
         return WorkoutPlanResponse.fromEntity(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkoutPlanResponse> getWorkoutPlansByTrainer(UUID trainerId) {
-        return workoutPlanRepository.findByTrainerIdOrderByCreatedAtDesc(trainerId).stream()
-                .map(WorkoutPlanResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<WorkoutPlan> plans = workoutPlanRepository.findRootsByTrainerId(trainerId);
+        return toWorkoutPlanResponses(plans);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkoutPlanResponse> getWorkoutPlansByClient(UUID clientId) {
-        return workoutPlanRepository.findByClientIdOrderByCreatedAtDesc(clientId).stream()
+        List<WorkoutPlan> plans = workoutPlanRepository.findRootsByClientId(clientId).stream()
                 .filter(p -> p.getStatus() != WorkoutPlan.PlanStatus.DRAFT)
-                .map(WorkoutPlanResponse::fromEntity)
                 .collect(Collectors.toList());
+        return toWorkoutPlanResponses(plans);
     }
 
+    @Transactional(readOnly = true)
     public List<WorkoutPlanResponse> getWorkoutPlansByConnection(UUID connectionId) {
-        return workoutPlanRepository.findByConnectionIdOrderByCreatedAtDesc(connectionId).stream()
-                .map(WorkoutPlanResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<WorkoutPlan> plans = workoutPlanRepository.findRootsByConnectionId(connectionId);
+        return toWorkoutPlanResponses(plans);
     }
 
+    @Transactional(readOnly = true)
     public WorkoutPlanResponse getWorkoutPlan(UUID planId) {
-        WorkoutPlan plan = workoutPlanRepository.findById(planId)
+        WorkoutPlan plan = workoutPlanRepository.findRootById(planId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workout plan not found"));
-        return WorkoutPlanResponse.fromEntity(plan);
+        return WorkoutPlanResponse.fromEntity(workoutPlanTreeLoader.hydrate(plan));
+    }
+
+    /** The client's current ACTIVE workout plan with its full tree, or null; three queries. */
+    @Transactional(readOnly = true)
+    public WorkoutPlanResponse getActiveWorkoutPlanForClient(UUID clientId) {
+        List<WorkoutPlan> plans = workoutPlanRepository.findRootsByClientIdAndStatus(
+                clientId, WorkoutPlan.PlanStatus.ACTIVE, PageRequest.of(0, 1));
+        return toWorkoutPlanResponses(plans).stream().findFirst().orElse(null);
+    }
+
+    private List<WorkoutPlanResponse> toWorkoutPlanResponses(List<WorkoutPlan> plans) {
+        return workoutPlanTreeLoader.hydrate(plans).stream()
+                .map(WorkoutPlanResponse::fromEntity)
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -230,29 +279,45 @@ public class PlanService {
         return DietPlanResponse.fromEntity(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<DietPlanResponse> getDietPlansByTrainer(UUID trainerId) {
-        return dietPlanRepository.findByTrainerIdOrderByCreatedAtDesc(trainerId).stream()
-                .map(DietPlanResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<DietPlan> plans = dietPlanRepository.findRootsByTrainerId(trainerId);
+        return toDietPlanResponses(plans);
     }
 
+    @Transactional(readOnly = true)
     public List<DietPlanResponse> getDietPlansByClient(UUID clientId) {
-        return dietPlanRepository.findByClientIdOrderByCreatedAtDesc(clientId).stream()
+        List<DietPlan> plans = dietPlanRepository.findRootsByClientId(clientId).stream()
                 .filter(p -> p.getStatus() != DietPlan.DietPlanStatus.DRAFT)
-                .map(DietPlanResponse::fromEntity)
                 .collect(Collectors.toList());
+        return toDietPlanResponses(plans);
     }
 
+    @Transactional(readOnly = true)
     public List<DietPlanResponse> getDietPlansByConnection(UUID connectionId) {
-        return dietPlanRepository.findByConnectionIdOrderByCreatedAtDesc(connectionId).stream()
-                .map(DietPlanResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<DietPlan> plans = dietPlanRepository.findRootsByConnectionId(connectionId);
+        return toDietPlanResponses(plans);
     }
 
+    @Transactional(readOnly = true)
     public DietPlanResponse getDietPlan(UUID planId) {
-        DietPlan plan = dietPlanRepository.findById(planId)
+        DietPlan plan = dietPlanRepository.findRootById(planId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Diet plan not found"));
-        return DietPlanResponse.fromEntity(plan);
+        return DietPlanResponse.fromEntity(dietPlanTreeLoader.hydrate(plan));
+    }
+
+    /** The client's current ACTIVE diet plan with its full tree, or null; three queries. */
+    @Transactional(readOnly = true)
+    public DietPlanResponse getActiveDietPlanForClient(UUID clientId) {
+        List<DietPlan> plans = dietPlanRepository.findRootsByClientIdAndStatus(
+                clientId, DietPlan.DietPlanStatus.ACTIVE, PageRequest.of(0, 1));
+        return toDietPlanResponses(plans).stream().findFirst().orElse(null);
+    }
+
+    private List<DietPlanResponse> toDietPlanResponses(List<DietPlan> plans) {
+        return dietPlanTreeLoader.hydrate(plans).stream()
+                .map(DietPlanResponse::fromEntity)
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -328,15 +393,44 @@ public class PlanService {
         return ExerciseLogResponse.fromEntity(saved);
     }
 
+    /**
+     * Legacy unpaged history, capped at the newest {@value #LEGACY_LOG_LIMIT} rows.
+     * New callers should use {@link #getExerciseLogPage}.
+     */
+    @Transactional(readOnly = true)
     public List<ExerciseLogResponse> getExerciseLogsByConnection(UUID connectionId) {
-        return exerciseLogRepository.findByConnectionIdOrderByLogDateDescCreatedAtDesc(connectionId).stream()
-                .map(ExerciseLogResponse::fromEntity)
+        return exerciseLogRepository.findFirstPage(connectionId, PageRequest.of(0, LEGACY_LOG_LIMIT)).stream()
+                .map(ExerciseLogResponse::fromRow)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ExerciseLogResponse> getExerciseLogPage(UUID connectionId, String cursor, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        List<ExerciseLogRow> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = exerciseLogRepository.findFirstPage(connectionId, fetch);
+        } else {
+            LogCursor after = LogCursor.decode(cursor);
+            rows = exerciseLogRepository.findPageAfter(
+                    connectionId, after.logDate(), after.createdAt(), after.id(), fetch);
+        }
+        return CursorPage.fromRows(rows, pageSize, ExerciseLogResponse::fromRow,
+                row -> LogCursor.encode(row.logDate(), row.createdAt(), row.id()));
+    }
+
+    @Transactional(readOnly = true)
     public List<ExerciseLogResponse> getExerciseLogsByConnectionAndDate(UUID connectionId, java.time.LocalDate date) {
-        return exerciseLogRepository.findByConnectionIdAndLogDateOrderByCreatedAtDesc(connectionId, date).stream()
-                .map(ExerciseLogResponse::fromEntity)
+        return exerciseLogRepository.findRowsByConnectionAndDate(connectionId, date).stream()
+                .map(ExerciseLogResponse::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExerciseLogResponse> getExerciseLogsByUserAndDate(UUID userId, LocalDate date) {
+        return exerciseLogRepository.findRowsByLoggedByAndDate(userId, date).stream()
+                .map(ExerciseLogResponse::fromRow)
                 .collect(Collectors.toList());
     }
 
@@ -373,24 +467,72 @@ public class PlanService {
         return MealLogResponse.fromEntity(saved);
     }
 
+    /** Legacy unpaged history, capped at the newest {@value #LEGACY_LOG_LIMIT} rows. */
+    @Transactional(readOnly = true)
     public List<MealLogResponse> getMealLogsByConnection(UUID connectionId) {
-        return mealLogRepository.findByConnectionIdOrderByLogDateDescCreatedAtDesc(connectionId).stream()
-                .map(MealLogResponse::fromEntity)
+        return mealLogRepository.findFirstPageByConnection(connectionId, MIN_LOG_DATE, MAX_LOG_DATE,
+                        PageRequest.of(0, LEGACY_LOG_LIMIT)).stream()
+                .map(MealLogResponse::fromRow)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<MealLogResponse> getMealLogsByConnectionAndDate(UUID connectionId, java.time.LocalDate date) {
-        return mealLogRepository.findByConnectionIdAndLogDateOrderByCreatedAtDesc(connectionId, date).stream()
-                .map(MealLogResponse::fromEntity)
+        return mealLogRepository.findRowsByConnectionAndDate(connectionId, date).stream()
+                .map(MealLogResponse::fromRow)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MealLogResponse> getMealLogsByClientAndDate(UUID clientId, LocalDate date) {
+        return mealLogRepository.findRowsByClientAndDate(clientId, date).stream()
+                .map(MealLogResponse::fromRow)
                 .collect(Collectors.toList());
     }
 
+    /** Legacy unpaged history, capped at the newest {@value #LEGACY_LOG_LIMIT} rows. */
+    @Transactional(readOnly = true)
     public List<MealLogResponse> getMealLogsByClient(UUID clientId) {
-        return mealLogRepository.findByClientIdOrderByLogDateDescCreatedAtDesc(clientId).stream()
-                .map(MealLogResponse::fromEntity)
+        return mealLogRepository.findFirstPageByClient(clientId, MIN_LOG_DATE, MAX_LOG_DATE,
+                        PageRequest.of(0, LEGACY_LOG_LIMIT)).stream()
+                .map(MealLogResponse::fromRow)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset-paginated meal logs for a connection or, when {@code connectionId} is null, for a client.
+     * {@code from}/{@code to} are inclusive and optional.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MealLogResponse> getMealLogPage(UUID connectionId, UUID clientId,
+                                                      LocalDate from, LocalDate to,
+                                                      String cursor, Integer limit) {
+        LocalDate rangeFrom = from != null ? from : MIN_LOG_DATE;
+        LocalDate rangeTo = to != null ? to : MAX_LOG_DATE;
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+
+        int pageSize = CursorPage.resolveLimit(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        LogCursor after = (cursor == null || cursor.isEmpty()) ? null : LogCursor.decode(cursor);
+
+        List<MealLogRow> rows;
+        if (connectionId != null) {
+            rows = after == null
+                    ? mealLogRepository.findFirstPageByConnection(connectionId, rangeFrom, rangeTo, fetch)
+                    : mealLogRepository.findPageByConnectionAfter(connectionId, rangeFrom, rangeTo,
+                            after.logDate(), after.createdAt(), after.id(), fetch);
+        } else {
+            rows = after == null
+                    ? mealLogRepository.findFirstPageByClient(clientId, rangeFrom, rangeTo, fetch)
+                    : mealLogRepository.findPageByClientAfter(clientId, rangeFrom, rangeTo,
+                            after.logDate(), after.createdAt(), after.id(), fetch);
+        }
+        return CursorPage.fromRows(rows, pageSize, MealLogResponse::fromRow,
+                row -> LogCursor.encode(row.logDate(), row.createdAt(), row.id()));
+    }
+
     @Transactional
     public MealLogResponse verifyMealLog(UUID trainerId, UUID logId) {
         MealLog log = mealLogRepository.findById(logId)
@@ -403,6 +545,9 @@ public class PlanService {
         log.setTrainerVerified(true);
         log.setTrainerVerifiedAt(java.time.LocalDateTime.now());
         MealLog saved = mealLogRepository.save(log);
-        return MealLogResponse.fromEntity(saved);
+        MealLogResponse response = MealLogResponse.fromEntity(saved);
+        eventPublisher.publishEvent(new RealtimeEvent(RealtimeEvent.Type.MEAL_LOG_VERIFIED,
+                Set.of(log.getConnection().getTrainer().getId(), log.getConnection().getClient().getId()), response));
+        return response;
     }
 }
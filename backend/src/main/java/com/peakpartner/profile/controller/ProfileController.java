@@ -1,10 +1,12 @@
 package com.peakpartner.profile.controller;
 
+import com.peakpartner.auth.model.AuthenticatedUser;
 import com.peakpartner.common.dto.ApiResponse;
+import com.peakpartner.common.pagination.CursorPage;
 import com.peakpartner.profile.dto.ProfileResponse;
 import com.peakpartner.profile.dto.UpdateProfileRequest;
-import com.peakpartner.profile.model.Profile;
 import com.peakpartner.profile.service.ProfileService;
+import com.peakpartner.profile.service.TrainerSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,19 +21,20 @@ import java.util.UUID;
 public class ProfileController {
 
     private final ProfileService profileService;
+    private final TrainerSearchService trainerSearchService;
 
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<ProfileResponse>> getMyProfile(
-            @AuthenticationPrincipal Profile currentUser) {
-        ProfileResponse profile = profileService.getMyProfile(currentUser.getId());
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        ProfileResponse profile = profileService.getMyProfile(currentUser.id());
         return ResponseEntity.ok(ApiResponse.success(profile));
     }
 
     @PutMapping("/me")
     public ResponseEntity<ApiResponse<ProfileResponse>> updateMyProfile(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestBody UpdateProfileRequest request) {
-        ProfileResponse profile = profileService.updateProfile(currentUser.getId(), request);
+        ProfileResponse profile = profileService.updateProfile(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", profile));
     }
 
@@ -47,4 +50,15 @@ public class ProfileController {
         List<ProfileResponse> trainers = profileService.getTrainers(specialization);
         return ResponseEntity.ok(ApiResponse.success(trainers));
     }
+
+    @GetMapping("/trainers/search")
+    public ResponseEntity<ApiResponse<CursorPage<ProfileResponse>>> searchTrainers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) Integer minExperience,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<ProfileResponse> page = trainerSearchService.search(q, specialization, minExperience, cursor, limit);
+        return ResponseEntity.ok(ApiResponse.success("Trainers found", page));
+    }
 }
@@ -0,0 +1,9 @@
+package com.peakpartner.profile.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a profile row is modified, so caches holding a copy can drop it.
+ */
+public record ProfileChangedEvent(UUID profileId) {
+}
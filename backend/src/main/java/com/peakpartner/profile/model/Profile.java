@@ -1,10 +1,13 @@
 package com.peakpartner.profile.model;
 
+import com.peakpartner.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -16,6 +19,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.PROFILES)
 @Data
 @Builder
 @NoArgsConstructor
@@ -68,6 +73,10 @@ public class Profile {
     @Column(name = "total_reviews")
     private Integer totalReviews;
 
+    // Stamped into access tokens; bumped by trg_profiles_auth_version when the role changes
+    @Column(name = "auth_version", nullable = false, updatable = false)
+    private Integer authVersion;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
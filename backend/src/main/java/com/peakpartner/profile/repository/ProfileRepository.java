@@ -1,6 +1,7 @@
 package com.peakpartner.profile.repository;
 
 import com.peakpartner.profile.model.Profile;
+import com.peakpartner.profile.repository.projection.AuthIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,14 +12,21 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProfileRepository extends JpaRepository<Profile, UUID> {
+public interface ProfileRepository extends JpaRepository<Profile, UUID>, TrainerSearchRepository {
     
     Optional<Profile> findByEmail(String email);
+
+    // A projection never reads the L2 entity cache, which misses trg_profiles_auth_version
+    // bumps made by role changes in SQL
+    @Query("SELECT new com.peakpartner.profile.repository.projection.AuthIdentity(" +
+           "p.id, p.email, p.role, p.authVersion) FROM Profile p WHERE p.id = :id")
+    Optional<AuthIdentity> findAuthIdentityById(@Param("id") UUID id);
     
     List<Profile> findByRole(Profile.Role role);
     
+    // @> rather than = ANY so idx_profiles_trainer_specializations (GIN) can serve it
     @Query(value = "SELECT * FROM profiles p WHERE p.role = 'TRAINER' " +
-           "AND (:specialization IS NULL OR :specialization = ANY(p.specializations))",
+           "AND p.specializations @> ARRAY[CAST(:specialization AS text)]",
            nativeQuery = true)
     List<Profile> findTrainersBySpecialization(@Param("specialization") String specialization);
 }
@@ -0,0 +1,15 @@
+package com.peakpartner.profile.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Optional trainer search filters; null fields are left out of the generated SQL entirely.
+ * {@code after} is the rank of the last trainer on the previous page.
+ */
+public record TrainerSearchFilter(String specialization, String name, Integer minExperience, Rank after) {
+
+    /** Position in the ranking order: rating, then years of experience, then id, all descending. */
+    public record Rank(BigDecimal rating, int experienceYears, UUID id) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.peakpartner.profile.repository;
+
+import com.peakpartner.profile.model.Profile;
+
+import java.util.List;
+
+public interface TrainerSearchRepository {
+
+    List<Profile> searchTrainers(TrainerSearchFilter filter, int maxResults);
+}
@@ -0,0 +1,68 @@
+package com.peakpartner.profile.repository;
+
+import com.peakpartner.profile.model.Profile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the trainer search SQL from only the filters that are present. A catch-all
+ * {@code (:x IS NULL OR ...)} query gets one generic plan that cannot pick the GIN
+ * indexes from V14; a tailored statement lets each combination use them.
+ */
+public class TrainerSearchRepositoryImpl implements TrainerSearchRepository {
+
+    private static final String RANK = "COALESCE(p.avg_rating, 0) DESC, COALESCE(p.experience_years, 0) DESC, p.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Profile> searchTrainers(TrainerSearchFilter filter, int maxResults) {
+        StringBuilder sql = new StringBuilder("SELECT p.* FROM profiles p WHERE p.role = 'TRAINER'");
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.specialization() != null) {
+            // @> is GIN-indexable; = ANY(specializations) is not
+            sql.append(" AND p.specializations @> ARRAY[CAST(:specialization AS text)]");
+            params.put("specialization", filter.specialization());
+        }
+        if (filter.name() != null) {
+            String name = filter.name().toLowerCase(Locale.ROOT);
+            // Prefix match for typed-ahead names, trigram similarity for misspellings
+            sql.append(" AND (lower(p.full_name) LIKE :namePrefix ESCAPE '\\' OR lower(p.full_name) % :name)");
+            params.put("namePrefix", escapeLike(name) + "%");
+            params.put("name", name);
+        }
+        if (filter.minExperience() != null) {
+            sql.append(" AND COALESCE(p.experience_years, 0) >= :minExperience");
+            params.put("minExperience", filter.minExperience());
+        }
+        if (filter.after() != null) {
+            sql.append(" AND (COALESCE(p.avg_rating, 0), COALESCE(p.experience_years, 0), p.id)")
+               .append(" < (:afterRating, :afterExperience, :afterId)");
+            params.put("afterRating", filter.after().rating());
+            params.put("afterExperience", filter.after().experienceYears());
+            params.put("afterId", filter.after().id());
+        }
+        sql.append(" ORDER BY ").append(RANK);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Profile.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(maxResults);
+        @SuppressWarnings("unchecked")
+        List<Profile> trainers = query.getResultList();
+        return trainers;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,11 @@
+package com.peakpartner.profile.repository.projection;
+
+import com.peakpartner.profile.model.Profile;
+
+import java.util.UUID;
+
+/**
+ * The profile columns that decide whether a token is still good, read straight from the row.
+ */
+public record AuthIdentity(UUID id, String email, Profile.Role role, Integer authVersion) {
+}
@@ -3,9 +3,11 @@ package com.peakpartner.profile.service;
 import com.peakpartner.common.exception.ResourceNotFoundException;
 import com.peakpartner.profile.dto.ProfileResponse;
 import com.peakpartner.profile.dto.UpdateProfileRequest;
+import com.peakpartner.profile.event.ProfileChangedEvent;
 import com.peakpartner.profile.model.Profile;
 import com.peakpartner.profile.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,13 +20,16 @@ import java.util.stream.Collectors;
 public class ProfileService {
 
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public ProfileResponse getProfile(UUID id) {
         Profile profile = profileRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
         return ProfileResponse.fromEntity(profile);
     }
 
+    @Transactional(readOnly = true)
     public ProfileResponse getMyProfile(UUID userId) {
         return getProfile(userId);
     }
@@ -60,9 +65,11 @@ public class ProfileService {
         }
 
         profile = profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileChangedEvent(profile.getId()));
         return ProfileResponse.fromEntity(profile);
     }
 
+    @Transactional(readOnly = true)
     public List<ProfileResponse> getTrainers(String specialization) {
         List<Profile> trainers;
         if (specialization != null && !specialization.isEmpty()) {
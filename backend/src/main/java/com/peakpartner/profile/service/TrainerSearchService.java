@@ -0,0 +1,100 @@
+package com.peakpartner.profile.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.peakpartner.common.pagination.CursorPage;
+import com.peakpartner.common.pagination.KeysetCursor;
+import com.peakpartner.profile.dto.ProfileResponse;
+import com.peakpartner.profile.event.ProfileChangedEvent;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.profile.repository.TrainerSearchFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Trainer directory search ranked by rating and experience, with keyset pages.
+ *
+ * <p>First pages of the plain "browse by specialization" query make up most directory
+ * traffic, so they are served from a small in-process cache. A hit opens no transaction
+ * and runs no SQL. Entries expire after a short TTL and are dropped whenever a profile
+ * edit commits. Name searches, experience filters and later pages always go to the database.
+ */
+@Service
+public class TrainerSearchService implements MeterBinder {
+
+    private static final String CACHE_NAME = "trainerSearch";
+
+    private final ProfileRepository profileRepository;
+    private final Cache<FirstPageKey, CursorPage<ProfileResponse>> firstPages;
+
+    private record FirstPageKey(String specialization, int limit) {
+    }
+
+    public TrainerSearchService(ProfileRepository profileRepository,
+                                @Value("${trainer-search.cache.max-size:500}") long maxSize,
+                                @Value("${trainer-search.cache.ttl:60s}") Duration ttl) {
+        this.profileRepository = profileRepository;
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public CursorPage<ProfileResponse> search(String name, String specialization, Integer minExperience,
+                                              String cursor, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        String nameFilter = blankToNull(name);
+        String specializationFilter = blankToNull(specialization);
+        TrainerSearchFilter.Rank after = cursor != null ? decodeCursor(cursor) : null;
+
+        if (nameFilter == null && minExperience == null && after == null) {
+            return firstPages.get(new FirstPageKey(specializationFilter, pageSize),
+                    key -> load(new TrainerSearchFilter(key.specialization(), null, null, null), pageSize));
+        }
+        return load(new TrainerSearchFilter(specializationFilter, nameFilter, minExperience, after), pageSize);
+    }
+
+    private CursorPage<ProfileResponse> load(TrainerSearchFilter filter, int pageSize) {
+        List<Profile> rows = profileRepository.searchTrainers(filter, pageSize + 1);
+        return CursorPage.fromRows(rows, pageSize, ProfileResponse::fromEntity, TrainerSearchService::encodeCursor);
+    }
+
+    // Same COALESCE defaults as the SQL ranking
+    private static String encodeCursor(Profile p) {
+        BigDecimal rating = p.getAvgRating() != null ? p.getAvgRating() : BigDecimal.ZERO;
+        int experience = p.getExperienceYears() != null ? p.getExperienceYears() : 0;
+        return KeysetCursor.encode(rating, experience, p.getId());
+    }
+
+    private static TrainerSearchFilter.Rank decodeCursor(String cursor) {
+        return KeysetCursor.decode(cursor, 3, keys -> new TrainerSearchFilter.Rank(
+                new BigDecimal(keys[0]), Integer.parseInt(keys[1]), UUID.fromString(keys[2])));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        firstPages.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, firstPages, CACHE_NAME);
+    }
+}
@@ -0,0 +1,26 @@
+package com.peakpartner.realtime.controller;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.realtime.service.UserEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final UserEventStream userEventStream;
+
+    // EventSource cannot set headers, so JwtAuthFilter also accepts ?access_token= on this path
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> stream(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return userEventStream.subscribe(currentUser.id(), lastEventId);
+    }
+}
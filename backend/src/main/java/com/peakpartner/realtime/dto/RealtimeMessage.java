@@ -0,0 +1,15 @@
+package com.peakpartner.realtime.dto;
+
+import com.peakpartner.realtime.event.RealtimeEvent;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class RealtimeMessage {
+    private RealtimeEvent.Type type;
+    private Object payload;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,13 @@
+package com.peakpartner.realtime.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Change worth pushing to connected users. Published inside the writing transaction and
+ * delivered by RealtimeEventRelay only once that transaction commits.
+ */
+public record RealtimeEvent(Type type, Set<UUID> recipients, Object payload) {
+
+    public enum Type { SESSION_BOOKED, SESSION_CANCELLED, RESCHEDULE_RESPONDED, MEAL_LOG_VERIFIED }
+}
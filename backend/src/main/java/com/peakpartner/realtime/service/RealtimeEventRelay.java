@@ -0,0 +1,45 @@
+package com.peakpartner.realtime.service;
+
+import com.peakpartner.realtime.dto.RealtimeMessage;
+import com.peakpartner.realtime.event.RealtimeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pushes committed changes to each recipient's {@code /user/queue/events} subscription.
+ * Events from rolled-back transactions are dropped, so clients never see a change that
+ * did not happen.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealtimeEventRelay {
+
+    public static final String USER_QUEUE = "/queue/events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(RealtimeEvent event) {
+        RealtimeMessage message = RealtimeMessage.builder()
+                .type(event.type())
+                .payload(event.payload())
+                .occurredAt(LocalDateTime.now())
+                .build();
+        for (UUID recipient : event.recipients()) {
+            try {
+                messagingTemplate.convertAndSendToUser(recipient.toString(), USER_QUEUE, message);
+            } catch (RuntimeException e) {
+                // Push is best effort; the committed change is still picked up by the next sync
+                log.warn("Failed to push {} to user {}", event.type(), recipient, e);
+            }
+        }
+    }
+}
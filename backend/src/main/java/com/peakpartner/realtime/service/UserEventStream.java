@@ -0,0 +1,172 @@
+package com.peakpartner.realtime.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.peakpartner.config.EventStreamProperties;
+import com.peakpartner.realtime.dto.RealtimeMessage;
+import com.peakpartner.realtime.event.RealtimeEvent;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user Server-Sent Events fed by committed {@link RealtimeEvent}s.
+ *
+ * <p>Each user has a fixed-size ring of recent events for {@code Last-Event-ID} resume, and
+ * each open stream a bounded queue. A subscriber that falls behind by more than its queue
+ * is disconnected rather than buffered without limit; it reconnects and resumes from the
+ * ring. A resume point older than the ring gets a {@code RESYNC} event instead, telling the
+ * client to catch up through {@code GET /sync}. Event ids are only meaningful on the node
+ * that issued them; after a restart every resume becomes a resync.
+ */
+@Component
+public class UserEventStream {
+
+    public static final String RESYNC = "RESYNC";
+
+    private final EventStreamProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<UUID, Channel> channels;
+
+    public UserEventStream(EventStreamProperties properties) {
+        this.properties = properties;
+        this.channels = Caffeine.newBuilder()
+                // Open streams touch their channel on every heartbeat, so only idle users expire
+                .expireAfterAccess(properties.getIdleTtl())
+                .removalListener((UUID userId, Channel channel, RemovalCause cause) -> {
+                    if (channel != null) {
+                        channel.closeAll();
+                    }
+                })
+                .build();
+    }
+
+    // Serialized so ids reach each ring in increasing order, which resume relies on
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onCommitted(RealtimeEvent event) {
+        RealtimeMessage message = RealtimeMessage.builder()
+                .type(event.type())
+                .payload(event.payload())
+                .occurredAt(LocalDateTime.now())
+                .build();
+        for (UUID recipient : event.recipients()) {
+            // Id taken before the lookup: a channel created after it starts its coverage above this id
+            long id = sequence.incrementAndGet();
+            // Users without a channel are skipped; a later resume from before that point resyncs
+            Channel channel = channels.getIfPresent(recipient);
+            if (channel != null) {
+                channel.publish(ServerSentEvent.<Object>builder(message)
+                        .id(Long.toString(id))
+                        .event(event.type().name())
+                        .build());
+            }
+        }
+    }
+
+    public Flux<ServerSentEvent<Object>> subscribe(UUID userId, String lastEventId) {
+        Channel channel = channels.get(userId, id -> new Channel(sequence.get()));
+        // Room for a full replay on top of the live backlog
+        int capacity = properties.getReplaySize() + properties.getSubscriberBufferSize();
+        Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ServerSentEvent<Object>>get(capacity).get());
+        channel.attach(sink, parseEventId(lastEventId));
+
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(properties.getHeartbeat())
+                .map(tick -> {
+                    channels.getIfPresent(userId);
+                    return ServerSentEvent.<Object>builder().comment("keepalive").build();
+                });
+
+        // Heartbeats stop as soon as the event side completes (slow subscriber, eviction)
+        return sink.asFlux()
+                .publish(events -> Flux.merge(events, heartbeats.takeUntilOther(events.then())))
+                .take(properties.getMaxStreamDuration())
+                .doFinally(signal -> channel.detach(sink));
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private final class Channel {
+
+        private final ArrayDeque<ServerSentEvent<Object>> recent = new ArrayDeque<>();
+        private final List<Sinks.Many<ServerSentEvent<Object>>> subscribers = new ArrayList<>();
+        // Every event for this user with a higher id is still in the ring
+        private long completeAfter;
+
+        Channel(long completeAfter) {
+            this.completeAfter = completeAfter;
+        }
+
+        // Replay and registration happen under the same lock as publish, so a new
+        // subscriber sees every event exactly once
+        synchronized void attach(Sinks.Many<ServerSentEvent<Object>> sink, Long lastEventId) {
+            if (lastEventId != null) {
+                replay(sink, lastEventId);
+            }
+            if (subscribers.size() >= properties.getMaxSubscribersPerUser()) {
+                subscribers.remove(0).tryEmitComplete();
+            }
+            subscribers.add(sink);
+        }
+
+        private void replay(Sinks.Many<ServerSentEvent<Object>> sink, long lastEventId) {
+            if (lastEventId < completeAfter) {
+                // Carries the newest id so far: after the /sync catch-up the client's next
+                // resume starts here instead of resyncing again
+                String resumeFrom = recent.isEmpty() ? Long.toString(completeAfter) : recent.peekLast().id();
+                sink.tryEmitNext(ServerSentEvent.<Object>builder().id(resumeFrom).event(RESYNC).build());
+                return;
+            }
+            for (ServerSentEvent<Object> event : recent) {
+                if (Long.parseLong(event.id()) > lastEventId) {
+                    sink.tryEmitNext(event);
+                }
+            }
+        }
+
+        synchronized void publish(ServerSentEvent<Object> event) {
+            if (recent.size() >= properties.getReplaySize()) {
+                completeAfter = Long.parseLong(recent.pollFirst().id());
+            }
+            recent.addLast(event);
+            subscribers.removeIf(sink -> {
+                if (sink.tryEmitNext(event).isFailure()) {
+                    // Slow or gone: drop it; the client resumes from the ring on reconnect
+                    sink.tryEmitComplete();
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        synchronized void detach(Sinks.Many<ServerSentEvent<Object>> sink) {
+            subscribers.remove(sink);
+        }
+
+        synchronized void closeAll() {
+            subscribers.forEach(Sinks.Many::tryEmitComplete);
+            subscribers.clear();
+        }
+    }
+}
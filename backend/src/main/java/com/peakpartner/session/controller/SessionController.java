@@ -1,16 +1,22 @@
 package com.peakpartner.session.controller;
 
+import com.peakpartner.auth.model.AuthenticatedUser;
 import com.peakpartner.common.dto.ApiResponse;
+import com.peakpartner.common.pagination.CursorPage;
 import com.peakpartner.profile.model.Profile;
 import com.peakpartner.session.dto.*;
+import com.peakpartner.session.model.SessionBooking;
 import com.peakpartner.session.service.SessionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -22,75 +28,97 @@ public class SessionController {
 
     @PostMapping
     public ResponseEntity<ApiResponse<SessionResponse>> createSession(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @Valid @RequestBody CreateSessionRequest request) {
-        SessionResponse response = sessionService.createSession(currentUser.getId(), request);
+        SessionResponse response = sessionService.createSession(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Session booked", response));
     }
 
+    @PostMapping("/recurring")
+    public ResponseEntity<ApiResponse<RecurringBookingResponse>> createRecurringSessions(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @Valid @RequestBody CreateRecurringSessionRequest request) {
+        RecurringBookingResponse response = sessionService.createRecurringSessions(currentUser.id(), request);
+        return ResponseEntity.ok(ApiResponse.success(
+                response.getBooked() + " of " + response.getRequested() + " sessions booked", response));
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<List<SessionResponse>>> getMySessions(
-            @AuthenticationPrincipal Profile currentUser) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         List<SessionResponse> sessions;
-        if (currentUser.getRole() == Profile.Role.TRAINER) {
-            sessions = sessionService.getSessionsForTrainer(currentUser.getId());
+        if (currentUser.role() == Profile.Role.TRAINER) {
+            sessions = sessionService.getSessionsForTrainer(currentUser.id());
         } else {
-            sessions = sessionService.getSessionsForClient(currentUser.getId());
+            sessions = sessionService.getSessionsForClient(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success("Sessions retrieved", sessions));
     }
 
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<CursorPage<SessionResponse>>> getSessionHistory(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestParam(required = false) Set<SessionBooking.BookingStatus> status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<SessionResponse> page = sessionService.getSessionHistory(
+                currentUser.id(), currentUser.role(), status, from, to, cursor, limit);
+        return ResponseEntity.ok(ApiResponse.success("Session history", page));
+    }
+
     @GetMapping("/today")
     public ResponseEntity<ApiResponse<List<SessionResponse>>> getTodaysSessions(
-            @AuthenticationPrincipal Profile currentUser) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         List<SessionResponse> sessions;
-        if (currentUser.getRole() == Profile.Role.TRAINER) {
-            sessions = sessionService.getTodaysSessionsForTrainer(currentUser.getId());
+        if (currentUser.role() == Profile.Role.TRAINER) {
+            sessions = sessionService.getTodaysSessionsForTrainer(currentUser.id());
         } else {
-            sessions = sessionService.getTodaysSessionsForClient(currentUser.getId());
+            sessions = sessionService.getTodaysSessionsForClient(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success("Today's sessions", sessions));
     }
 
     @GetMapping("/upcoming")
     public ResponseEntity<ApiResponse<SessionResponse>> getUpcomingSession(
-            @AuthenticationPrincipal Profile currentUser) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         SessionResponse session;
-        if (currentUser.getRole() == Profile.Role.TRAINER) {
-            session = sessionService.getUpcomingSessionForTrainer(currentUser.getId());
+        if (currentUser.role() == Profile.Role.TRAINER) {
+            session = sessionService.getUpcomingSessionForTrainer(currentUser.id());
         } else {
-            session = sessionService.getUpcomingSessionForClient(currentUser.getId());
+            session = sessionService.getUpcomingSessionForClient(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success("Upcoming session", session));
     }
 
     @GetMapping("/upcoming-list")
     public ResponseEntity<ApiResponse<List<SessionResponse>>> getUpcomingSessions(
-            @AuthenticationPrincipal Profile currentUser) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         List<SessionResponse> sessions;
-        if (currentUser.getRole() == Profile.Role.TRAINER) {
-            sessions = sessionService.getUpcomingSessionsForTrainer(currentUser.getId());
+        if (currentUser.role() == Profile.Role.TRAINER) {
+            sessions = sessionService.getUpcomingSessionsForTrainer(currentUser.id());
         } else {
-            sessions = sessionService.getUpcomingSessionsForClient(currentUser.getId());
+            sessions = sessionService.getUpcomingSessionsForClient(currentUser.id());
         }
         return ResponseEntity.ok(ApiResponse.success("Upcoming sessions", sessions));
     }
 
     @PutMapping("/{id}/cancel")
     public ResponseEntity<ApiResponse<SessionResponse>> cancelSession(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id,
             @RequestBody(required = false) CancelSessionRequest request) {
         String reason = request != null ? request.getReason() : null;
-        SessionResponse response = sessionService.cancelSession(currentUser.getId(), id, reason);
+        SessionResponse response = sessionService.cancelSession(currentUser.id(), id, reason);
         return ResponseEntity.ok(ApiResponse.success("Session cancelled", response));
     }
 
     @PutMapping("/{id}/complete")
     public ResponseEntity<ApiResponse<SessionResponse>> completeSession(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        SessionResponse response = sessionService.completeSession(currentUser.getId(), id);
+        SessionResponse response = sessionService.completeSession(currentUser.id(), id);
         return ResponseEntity.ok(ApiResponse.success("Session completed", response));
     }
 
@@ -98,25 +126,25 @@ public class SessionController {
 
     @PostMapping("/reschedule")
     public ResponseEntity<ApiResponse<RescheduleResponse>> createRescheduleRequest(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @Valid @RequestBody CreateRescheduleRequest request) {
-        RescheduleResponse response = sessionService.createRescheduleRequest(currentUser.getId(), request);
+        RescheduleResponse response = sessionService.createRescheduleRequest(currentUser.id(), request);
         return ResponseEntity.ok(ApiResponse.success("Reschedule request created", response));
     }
 
     @PutMapping("/reschedule/{id}/accept")
     public ResponseEntity<ApiResponse<RescheduleResponse>> acceptReschedule(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        RescheduleResponse response = sessionService.respondToReschedule(currentUser.getId(), id, true);
+        RescheduleResponse response = sessionService.respondToReschedule(currentUser.id(), id, true);
         return ResponseEntity.ok(ApiResponse.success("Reschedule accepted", response));
     }
 
     @PutMapping("/reschedule/{id}/decline")
     public ResponseEntity<ApiResponse<RescheduleResponse>> declineReschedule(
-            @AuthenticationPrincipal Profile currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @PathVariable UUID id) {
-        RescheduleResponse response = sessionService.respondToReschedule(currentUser.getId(), id, false);
+        RescheduleResponse response = sessionService.respondToReschedule(currentUser.id(), id, false);
         return ResponseEntity.ok(ApiResponse.success("Reschedule declined", response));
     }
 
@@ -129,8 +157,8 @@ public class SessionController {
 
     @GetMapping("/reschedule/pending")
     public ResponseEntity<ApiResponse<List<RescheduleResponse>>> getPendingRescheduleRequests(
-            @AuthenticationPrincipal Profile currentUser) {
-        List<RescheduleResponse> requests = sessionService.getPendingRescheduleRequestsForUser(currentUser.getId());
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        List<RescheduleResponse> requests = sessionService.getPendingRescheduleRequestsForUser(currentUser.id());
         return ResponseEntity.ok(ApiResponse.success("Pending reschedule requests", requests));
     }
 }
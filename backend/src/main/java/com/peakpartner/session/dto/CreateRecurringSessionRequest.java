@@ -0,0 +1,36 @@
+package com.peakpartner.session.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Weekly recurrence: every listed day of the week, from startDate, for the given number of weeks.
+ */
+@Data
+public class CreateRecurringSessionRequest {
+    @NotNull
+    private UUID connectionId;
+    @NotEmpty
+    private Set<DayOfWeek> daysOfWeek; // MONDAY ... SUNDAY
+    @NotNull
+    private LocalDate startDate;
+    @NotNull
+    @Min(1)
+    @Max(26)
+    private Integer weeks;
+    @NotNull
+    private LocalTime startTime;
+    @NotNull
+    private LocalTime endTime;
+    private String sessionType; // IN_PERSON or VIRTUAL
+    private String notes;
+}
@@ -0,0 +1,30 @@
+package com.peakpartner.session.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class RecurringBookingResponse {
+    private int requested;
+    private int booked;
+    private int skipped;
+    private List<OccurrenceResult> occurrences;
+
+    public enum OccurrenceStatus {
+        BOOKED, CONFLICT, PAST
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class OccurrenceResult {
+        private LocalDate sessionDate;
+        private OccurrenceStatus status;
+        private String message;
+        private SessionResponse session;
+    }
+}
@@ -1,6 +1,7 @@
 package com.peakpartner.session.dto;
 
 import com.peakpartner.session.model.RescheduleRequest;
+import com.peakpartner.session.repository.projection.RescheduleRow;
 import lombok.Builder;
 import lombok.Data;
 
@@ -38,4 +39,20 @@ public class RescheduleResponse {
                 .createdAt(r.getCreatedAt())
                 .build();
     }
+
+    public static RescheduleResponse fromRow(RescheduleRow row) {
+        return RescheduleResponse.builder()
+                .id(row.id())
+                .sessionId(row.sessionId())
+                .requestedById(row.requestedById())
+                .requestedByName(row.requestedByName())
+                .proposedDate(row.proposedDate())
+                .proposedStartTime(row.proposedStartTime().toString())
+                .proposedEndTime(row.proposedEndTime().toString())
+                .reason(row.reason())
+                .status(row.status().name())
+                .respondedAt(row.respondedAt())
+                .createdAt(row.createdAt())
+                .build();
+    }
 }
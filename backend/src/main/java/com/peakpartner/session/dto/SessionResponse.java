@@ -1,6 +1,7 @@
 package com.peakpartner.session.dto;
 
 import com.peakpartner.session.model.SessionBooking;
+import com.peakpartner.session.repository.projection.SessionRow;
 import lombok.Builder;
 import lombok.Data;
 
@@ -46,4 +47,24 @@ public class SessionResponse {
                 .createdAt(s.getCreatedAt())
                 .build();
     }
+
+    public static SessionResponse fromRow(SessionRow row) {
+        return SessionResponse.builder()
+                .id(row.id())
+                .connectionId(row.connectionId())
+                .clientId(row.clientId())
+                .clientName(row.clientName())
+                .trainerId(row.trainerId())
+                .trainerName(row.trainerName())
+                .sessionDate(row.sessionDate())
+                .startTime(row.startTime().toString())
+                .endTime(row.endTime().toString())
+                .sessionType(row.sessionType().name())
+                .status(row.status().name())
+                .notes(row.notes())
+                .cancelReason(row.cancelReason())
+                .cancelledByName(row.cancelledByName())
+                .createdAt(row.createdAt())
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.peakpartner.session.model;
 
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
 import lombok.*;
@@ -23,7 +24,7 @@ public class RescheduleRequest {
     public enum RescheduleStatus { PENDING, ACCEPTED, DECLINED, CANCELLED }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -57,4 +58,7 @@ public class RescheduleRequest {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
 }
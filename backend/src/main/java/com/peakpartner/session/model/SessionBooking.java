@@ -1,5 +1,7 @@
 package com.peakpartner.session.model;
 
+import com.peakpartner.common.etag.UserDataVersionListener;
+import com.peakpartner.common.id.GeneratedUuidV7;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.profile.model.Profile;
 import jakarta.persistence.*;
@@ -15,6 +17,7 @@ import java.time.LocalTime;
 import java.util.UUID;
 
 @Entity
+@EntityListeners(UserDataVersionListener.class)
 @Table(name = "session_bookings")
 @Data
 @Builder
@@ -26,7 +29,7 @@ public class SessionBooking {
     public enum SessionType { IN_PERSON, VIRTUAL }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -77,4 +80,7 @@ public class SessionBooking {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
 }
@@ -1,7 +1,9 @@
 package com.peakpartner.session.repository;
 
+import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.session.model.RescheduleRequest;
 import com.peakpartner.session.model.RescheduleRequest.RescheduleStatus;
+import com.peakpartner.session.repository.projection.RescheduleRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,13 +14,27 @@ import java.util.UUID;
 
 @Repository
 public interface RescheduleRequestRepository extends JpaRepository<RescheduleRequest, UUID> {
-    List<RescheduleRequest> findBySessionIdOrderByCreatedAtDesc(UUID sessionId);
+
+    String ROW_SELECT = "SELECT new com.peakpartner.session.repository.projection.RescheduleRow(" +
+            "rr.id, rr.session.id, rb.id, rb.fullName, rr.proposedDate, rr.proposedStartTime, " +
+            "rr.proposedEndTime, rr.reason, rr.status, rr.respondedAt, rr.createdAt) " +
+            "FROM RescheduleRequest rr JOIN rr.requestedBy rb ";
+
     List<RescheduleRequest> findBySessionIdAndStatus(UUID sessionId, RescheduleStatus status);
     List<RescheduleRequest> findByRequestedByIdOrderByCreatedAtDesc(UUID userId);
 
+    @Query(ROW_SELECT + "WHERE rr.session.id = :sessionId ORDER BY rr.createdAt DESC")
+    List<RescheduleRow> findRowsBySession(@Param("sessionId") UUID sessionId);
+
     // Find pending reschedule requests where the user needs to respond (they are part of the session but NOT the requester)
-    @Query("SELECT rr FROM RescheduleRequest rr WHERE rr.status = :status AND " +
+    @Query(ROW_SELECT + "WHERE rr.status = :status AND " +
            "(rr.session.client.id = :userId OR rr.session.trainer.id = :userId) AND " +
-           "rr.requestedBy.id <> :userId ORDER BY rr.createdAt DESC")
-    List<RescheduleRequest> findPendingForUser(@Param("userId") UUID userId, @Param("status") RescheduleStatus status);
+           "rb.id <> :userId ORDER BY rr.createdAt DESC")
+    List<RescheduleRow> findPendingForUser(@Param("userId") UUID userId, @Param("status") RescheduleStatus status);
+
+    @Query(ROW_SELECT + "WHERE rr.session.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND rr.changeSeq >= :fromSeq AND rr.changeSeq < :toSeq ORDER BY rr.changeSeq")
+    List<RescheduleRow> findRowsChangedForUser(@Param("userId") UUID userId,
+                                               @Param("fromSeq") long fromSeq,
+                                               @Param("toSeq") long toSeq);
 }
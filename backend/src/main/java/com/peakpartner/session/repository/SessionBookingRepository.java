@@ -1,8 +1,12 @@
 package com.peakpartner.session.repository;
 
+import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.session.model.SessionBooking;
 import com.peakpartner.session.model.SessionBooking.BookingStatus;
+import com.peakpartner.session.repository.projection.BookedInterval;
+import com.peakpartner.session.repository.projection.SessionRow;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -11,21 +15,100 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface SessionBookingRepository extends JpaRepository<SessionBooking, UUID> {
-    List<SessionBooking> findByTrainerIdOrderBySessionDateDescStartTimeDesc(UUID trainerId);
-    List<SessionBooking> findByClientIdOrderBySessionDateDescStartTimeDesc(UUID clientId);
+
+    String ROW_SELECT = "SELECT new com.peakpartner.session.repository.projection.SessionRow(" +
+            "s.id, s.connection.id, c.id, c.fullName, t.id, t.fullName, s.sessionDate, s.startTime, s.endTime, " +
+            "s.sessionType, s.status, s.notes, s.cancelReason, cb.fullName, s.createdAt) " +
+            "FROM SessionBooking s JOIN s.client c JOIN s.trainer t LEFT JOIN s.cancelledBy cb ";
+
     List<SessionBooking> findByConnectionIdOrderBySessionDateDesc(UUID connectionId);
-    List<SessionBooking> findByTrainerIdAndSessionDate(UUID trainerId, LocalDate date);
-    List<SessionBooking> findByClientIdAndSessionDate(UUID clientId, LocalDate date);
     List<SessionBooking> findByClientIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
             UUID clientId, LocalDate date, BookingStatus status);
     List<SessionBooking> findByTrainerIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
             UUID trainerId, LocalDate date, BookingStatus status);
 
+    @Query(ROW_SELECT + "WHERE t.id = :trainerId ORDER BY s.sessionDate DESC, s.startTime DESC")
+    List<SessionRow> findRowsByTrainer(@Param("trainerId") UUID trainerId);
+
+    @Query(ROW_SELECT + "WHERE c.id = :clientId ORDER BY s.sessionDate DESC, s.startTime DESC")
+    List<SessionRow> findRowsByClient(@Param("clientId") UUID clientId);
+
+    @Query(ROW_SELECT + "WHERE t.id = :trainerId AND s.sessionDate = :sessionDate ORDER BY s.startTime")
+    List<SessionRow> findRowsByTrainerAndDate(@Param("trainerId") UUID trainerId,
+                                              @Param("sessionDate") LocalDate sessionDate);
+
+    @Query(ROW_SELECT + "WHERE c.id = :clientId AND s.sessionDate = :sessionDate ORDER BY s.startTime")
+    List<SessionRow> findRowsByClientAndDate(@Param("clientId") UUID clientId,
+                                             @Param("sessionDate") LocalDate sessionDate);
+
+    // Upcoming BOOKED sessions. The status is a literal so the planner can always use the
+    // partial idx_bookings_*_booked indexes, even for generic prepared-statement plans.
+
+    @Query(ROW_SELECT + "WHERE t.id = :trainerId AND s.sessionDate >= :fromDate " +
+           "AND s.status = 'BOOKED' " +
+           "ORDER BY s.sessionDate ASC, s.startTime ASC")
+    List<SessionRow> findUpcomingBookedForTrainer(@Param("trainerId") UUID trainerId,
+                                                  @Param("fromDate") LocalDate fromDate,
+                                                  Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE c.id = :clientId AND s.sessionDate >= :fromDate " +
+           "AND s.status = 'BOOKED' " +
+           "ORDER BY s.sessionDate ASC, s.startTime ASC")
+    List<SessionRow> findUpcomingBookedForClient(@Param("clientId") UUID clientId,
+                                                 @Param("fromDate") LocalDate fromDate,
+                                                 Pageable pageable);
+
+    // Session history: keyset pagination on (session_date, start_time, id) descending,
+    // served by idx_bookings_*_history
+
+    @Query(ROW_SELECT + "WHERE t.id = :trainerId AND s.status IN :statuses AND s.sessionDate BETWEEN :from AND :to " +
+           "ORDER BY s.sessionDate DESC, s.startTime DESC, s.id DESC")
+    List<SessionRow> findTrainerHistoryFirstPage(@Param("trainerId") UUID trainerId,
+                                                 @Param("statuses") Collection<BookingStatus> statuses,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to,
+                                                 Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE t.id = :trainerId AND s.status IN :statuses AND s.sessionDate BETWEEN :from AND :to " +
+           "AND (s.sessionDate < :sessionDate OR (s.sessionDate = :sessionDate AND (s.startTime < :startTime " +
+           "OR (s.startTime = :startTime AND s.id < :id)))) " +
+           "ORDER BY s.sessionDate DESC, s.startTime DESC, s.id DESC")
+    List<SessionRow> findTrainerHistoryPageAfter(@Param("trainerId") UUID trainerId,
+                                                 @Param("statuses") Collection<BookingStatus> statuses,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to,
+                                                 @Param("sessionDate") LocalDate sessionDate,
+                                                 @Param("startTime") LocalTime startTime,
+                                                 @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE c.id = :clientId AND s.status IN :statuses AND s.sessionDate BETWEEN :from AND :to " +
+           "ORDER BY s.sessionDate DESC, s.startTime DESC, s.id DESC")
+    List<SessionRow> findClientHistoryFirstPage(@Param("clientId") UUID clientId,
+                                                @Param("statuses") Collection<BookingStatus> statuses,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                Pageable pageable);
+
+    @Query(ROW_SELECT + "WHERE c.id = :clientId AND s.status IN :statuses AND s.sessionDate BETWEEN :from AND :to " +
+           "AND (s.sessionDate < :sessionDate OR (s.sessionDate = :sessionDate AND (s.startTime < :startTime " +
+           "OR (s.startTime = :startTime AND s.id < :id)))) " +
+           "ORDER BY s.sessionDate DESC, s.startTime DESC, s.id DESC")
+    List<SessionRow> findClientHistoryPageAfter(@Param("clientId") UUID clientId,
+                                                @Param("statuses") Collection<BookingStatus> statuses,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to,
+                                                @Param("sessionDate") LocalDate sessionDate,
+                                                @Param("startTime") LocalTime startTime,
+                                                @Param("id") UUID id,
+                                                Pageable pageable);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM SessionBooking s WHERE s.trainer.id = :trainerId AND s.sessionDate = :sessionDate " +
            "AND s.status = :status AND s.startTime < :endTime AND s.endTime > :startTime")
@@ -45,4 +128,38 @@ public interface SessionBookingRepository extends JpaRepository<SessionBooking,
             @Param("startTime") LocalTime startTime,
             @Param("endTime") LocalTime endTime,
             @Param("status") BookingStatus status);
+
+    @Query(ROW_SELECT + "WHERE s.connection.id IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "AND s.changeSeq >= :fromSeq AND s.changeSeq < :toSeq ORDER BY s.changeSeq")
+    List<SessionRow> findRowsChangedForUser(@Param("userId") UUID userId,
+                                            @Param("fromSeq") long fromSeq,
+                                            @Param("toSeq") long toSeq);
+
+    // BOOKED intervals in a date range for availability grids; served by idx_bookings_*_booked
+
+    String INTERVAL_SELECT = "SELECT new com.peakpartner.session.repository.projection.BookedInterval(" +
+            "s.id, s.sessionDate, s.startTime, s.endTime) FROM SessionBooking s ";
+
+    @Query(INTERVAL_SELECT + "WHERE s.trainer.id = :trainerId " +
+           "AND s.status = 'BOOKED' " +
+           "AND s.sessionDate BETWEEN :from AND :to")
+    List<BookedInterval> findBookedIntervalsForTrainer(@Param("trainerId") UUID trainerId,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to);
+
+    // Both calendars at once, for checking a batch of occurrences in one round trip
+    @Query(INTERVAL_SELECT + "WHERE (s.trainer.id = :trainerId OR s.client.id = :clientId) " +
+           "AND s.status = 'BOOKED' " +
+           "AND s.sessionDate BETWEEN :from AND :to")
+    List<BookedInterval> findBookedIntervalsForParticipants(@Param("trainerId") UUID trainerId,
+                                                            @Param("clientId") UUID clientId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
+    @Query(INTERVAL_SELECT + "WHERE s.client.id = :clientId " +
+           "AND s.status = 'BOOKED' " +
+           "AND s.sessionDate BETWEEN :from AND :to")
+    List<BookedInterval> findBookedIntervalsForClient(@Param("clientId") UUID clientId,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
 }
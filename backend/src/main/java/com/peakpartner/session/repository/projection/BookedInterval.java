@@ -0,0 +1,11 @@
+package com.peakpartner.session.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Id, date and time range of a BOOKED session; all that occupancy calculations need.
+ */
+public record BookedInterval(UUID id, LocalDate sessionDate, LocalTime startTime, LocalTime endTime) {
+}
@@ -0,0 +1,25 @@
+package com.peakpartner.session.repository.projection;
+
+import com.peakpartner.session.model.RescheduleRequest.RescheduleStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a reschedule request, selected with a JPQL constructor expression.
+ */
+public record RescheduleRow(
+        UUID id,
+        UUID sessionId,
+        UUID requestedById,
+        String requestedByName,
+        LocalDate proposedDate,
+        LocalTime proposedStartTime,
+        LocalTime proposedEndTime,
+        String reason,
+        RescheduleStatus status,
+        LocalDateTime respondedAt,
+        LocalDateTime createdAt) {
+}
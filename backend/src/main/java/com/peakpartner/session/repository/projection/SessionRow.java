@@ -0,0 +1,31 @@
+package com.peakpartner.session.repository.projection;
+
+import com.peakpartner.session.model.SessionBooking.BookingStatus;
+import com.peakpartner.session.model.SessionBooking.SessionType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a session booking with participant names, selected with a
+ * JPQL constructor expression. Never enters the persistence context.
+ */
+public record SessionRow(
+        UUID id,
+        UUID connectionId,
+        UUID clientId,
+        String clientName,
+        UUID trainerId,
+        String trainerName,
+        LocalDate sessionDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        SessionType sessionType,
+        BookingStatus status,
+        String notes,
+        String cancelReason,
+        String cancelledByName,
+        LocalDateTime createdAt) {
+}
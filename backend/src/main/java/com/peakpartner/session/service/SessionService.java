@@ -1,10 +1,14 @@
 package com.peakpartner.session.service;
 
 import com.peakpartner.common.exception.*;
+import com.peakpartner.common.pagination.CursorPage;
+import com.peakpartner.common.pagination.KeysetCursor;
+import com.peakpartner.config.BookingConfig;
 import com.peakpartner.connection.model.Connection;
 import com.peakpartner.connection.repository.ConnectionRepository;
 import com.peakpartner.profile.model.Profile;
 import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.realtime.event.RealtimeEvent;
 import com.peakpartner.session.dto.*;
 import com.peakpartner.session.model.RescheduleRequest;
 import com.peakpartner.session.model.RescheduleRequest.RescheduleStatus;
@@ -13,14 +17,25 @@ import com.peakpartner.session.model.SessionBooking.BookingStatus;
 import com.peakpartner.session.model.SessionBooking.SessionType;
 import com.peakpartner.session.repository.RescheduleRequestRepository;
 import com.peakpartner.session.repository.SessionBookingRepository;
+import com.peakpartner.session.repository.projection.BookedInterval;
+import com.peakpartner.session.repository.projection.SessionRow;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,10 +43,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SessionService {
 
+    private static final LocalDate MIN_SESSION_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_SESSION_DATE = LocalDate.of(9999, 12, 31);
+
+    static final String TRAINER_BOOKED = "Trainer already has a session booked during this time slot";
+    static final String CLIENT_BOOKED = "Client already has a session booked during this time slot";
+    private static final String TRAINER_CONFLICT = "Trainer has a conflicting session at the proposed time";
+    private static final String CLIENT_CONFLICT = "Client has a conflicting session at the proposed time";
+
     private final SessionBookingRepository sessionBookingRepository;
     private final RescheduleRequestRepository rescheduleRequestRepository;
     private final ConnectionRepository connectionRepository;
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingConfig bookingConfig;
+    private final TrainerBookingCoordinator bookingCoordinator;
+
+    /** Keyset position in a session history ordered by (session_date, start_time, id) descending. */
+    private record SessionCursor(LocalDate sessionDate, LocalTime startTime, UUID id) {
+
+        static String encode(LocalDate sessionDate, LocalTime startTime, UUID id) {
+            return KeysetCursor.encode(sessionDate, startTime, id);
+        }
+
+        static SessionCursor decode(String cursor) {
+            return KeysetCursor.decode(cursor, 3, keys -> new SessionCursor(
+                    LocalDate.parse(keys[0]), LocalTime.parse(keys[1]), UUID.fromString(keys[2])));
+        }
+    }
 
     @Transactional
     public SessionResponse createSession(UUID userId, CreateSessionRequest request) {
@@ -53,20 +92,25 @@ public class SessionService {
             sessionType = SessionType.valueOf(request.getSessionType());
         }
 
-        // Check for overlapping sessions for the trainer
-        List<SessionBooking> trainerOverlaps = sessionBookingRepository.findOverlappingSessionsForTrainer(
-                connection.getTrainer().getId(), request.getSessionDate(),
-                request.getStartTime(), request.getEndTime(), BookingStatus.BOOKED);
-        if (!trainerOverlaps.isEmpty()) {
-            throw new BadRequestException("Trainer already has a session booked during this time slot");
-        }
+        if (bookingConfig.getMode() == BookingConfig.Mode.PESSIMISTIC) {
+            // Check for overlapping sessions for the trainer
+            List<SessionBooking> trainerOverlaps = sessionBookingRepository.findOverlappingSessionsForTrainer(
+                    connection.getTrainer().getId(), request.getSessionDate(),
+                    request.getStartTime(), request.getEndTime(), BookingStatus.BOOKED);
+            if (!trainerOverlaps.isEmpty()) {
+                throw new BadRequestException(TRAINER_BOOKED);
+            }
 
-        // Check for overlapping sessions for the client
-        List<SessionBooking> clientOverlaps = sessionBookingRepository.findOverlappingSessionsForClient(
-                connection.getClient().getId(), request.getSessionDate(),
-                request.getStartTime(), request.getEndTime(), BookingStatus.BOOKED);
-        if (!clientOverlaps.isEmpty()) {
-            throw new BadRequestException("Client already has a session booked during this time slot");
+            // Check for overlapping sessions for the client
+            List<SessionBooking> clientOverlaps = sessionBookingRepository.findOverlappingSessionsForClient(
+                    connection.getClient().getId(), request.getSessionDate(),
+                    request.getStartTime(), request.getEndTime(), BookingStatus.BOOKED);
+            if (!clientOverlaps.isEmpty()) {
+                throw new BadRequestException(CLIENT_BOOKED);
+            }
+        } else if (bookingConfig.getMode() == BookingConfig.Mode.COORDINATED) {
+            checkTrainerCalendar(connection.getTrainer().getId(), request.getSessionDate(),
+                    request.getStartTime(), request.getEndTime(), null, TRAINER_BOOKED);
         }
 
         SessionBooking booking = SessionBooking.builder()
@@ -82,12 +126,118 @@ public class SessionService {
                 .build();
 
         try {
-            booking = sessionBookingRepository.save(booking);
+            // Flush so a constraint violation surfaces here rather than at commit
+            booking = sessionBookingRepository.saveAndFlush(booking);
         } catch (DataIntegrityViolationException e) {
-            // DB exclusion constraint caught a concurrent overlapping booking
-            throw new BadRequestException("This time slot was just booked by someone else. Please choose a different time.");
+            // DB exclusion constraint caught an overlapping booking: a concurrent one, or any
+            // overlap at all in OPTIMISTIC mode
+            throw new BadRequestException(overlapMessage(e, TRAINER_BOOKED, CLIENT_BOOKED,
+                    "This time slot was just booked by someone else. Please choose a different time."));
         }
-        return SessionResponse.fromEntity(booking);
+        if (bookingConfig.getMode() == BookingConfig.Mode.COORDINATED) {
+            bookingCoordinator.bookedAfterCommit(booking.getTrainer().getId(), new BookedInterval(
+                    booking.getId(), booking.getSessionDate(), booking.getStartTime(), booking.getEndTime()));
+        }
+        SessionResponse response = SessionResponse.fromEntity(booking);
+        publishToParticipants(RealtimeEvent.Type.SESSION_BOOKED, booking, response);
+        return response;
+    }
+
+    /**
+     * Books every occurrence of a weekly recurrence that is free for both parties. All
+     * occurrences are checked against one range query of the two calendars and the free
+     * ones are inserted as a single batch; the rest are reported per occurrence. The V7
+     * exclusion constraints still reject the batch if a concurrent booking got in between.
+     */
+    @Transactional
+    public RecurringBookingResponse createRecurringSessions(UUID userId, CreateRecurringSessionRequest request) {
+        Connection connection = connectionRepository.findById(request.getConnectionId())
+                .orElseThrow(() -> new ResourceNotFoundException("Connection not found"));
+
+        if (connection.getStatus() != Connection.ConnectionStatus.ACCEPTED) {
+            throw new BadRequestException("Connection must be accepted to book sessions");
+        }
+        if (!connection.getTrainer().getId().equals(userId) && !connection.getClient().getId().equals(userId)) {
+            throw new UnauthorizedException("You are not part of this connection");
+        }
+        if (!request.getEndTime().isAfter(request.getStartTime())) {
+            throw new BadRequestException("End time must be after start time");
+        }
+
+        SessionType sessionType = SessionType.IN_PERSON;
+        if (request.getSessionType() != null) {
+            sessionType = SessionType.valueOf(request.getSessionType());
+        }
+
+        LocalDate from = request.getStartDate();
+        LocalDate to = from.plusWeeks(request.getWeeks()).minusDays(1);
+        Map<LocalDate, List<BookedInterval>> busy = sessionBookingRepository
+                .findBookedIntervalsForParticipants(connection.getTrainer().getId(),
+                        connection.getClient().getId(), from, to)
+                .stream()
+                .collect(Collectors.groupingBy(BookedInterval::sessionDate));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RecurringBookingResponse.OccurrenceResult> results = new ArrayList<>();
+        List<SessionBooking> bookings = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!request.getDaysOfWeek().contains(date.getDayOfWeek())) {
+                continue;
+            }
+            if (date.atTime(request.getStartTime()).isBefore(now)) {
+                results.add(new RecurringBookingResponse.OccurrenceResult(date,
+                        RecurringBookingResponse.OccurrenceStatus.PAST, "Date is in the past", null));
+                continue;
+            }
+            boolean conflict = busy.getOrDefault(date, List.of()).stream()
+                    .anyMatch(i -> i.startTime().isBefore(request.getEndTime())
+                            && i.endTime().isAfter(request.getStartTime()));
+            if (conflict) {
+                results.add(new RecurringBookingResponse.OccurrenceResult(date,
+                        RecurringBookingResponse.OccurrenceStatus.CONFLICT,
+                        "Trainer or client already has a session booked during this time slot", null));
+                continue;
+            }
+            bookings.add(SessionBooking.builder()
+                    .connection(connection)
+                    .client(connection.getClient())
+                    .trainer(connection.getTrainer())
+                    .sessionDate(date)
+                    .startTime(request.getStartTime())
+                    .endTime(request.getEndTime())
+                    .sessionType(sessionType)
+                    .status(BookingStatus.BOOKED)
+                    .notes(request.getNotes())
+                    .build());
+            // Placeholder until the batch is saved; filled in below in date order
+            results.add(new RecurringBookingResponse.OccurrenceResult(date,
+                    RecurringBookingResponse.OccurrenceStatus.BOOKED, null, null));
+        }
+
+        try {
+            bookings = sessionBookingRepository.saveAllAndFlush(bookings);
+        } catch (DataIntegrityViolationException e) {
+            // DB exclusion constraint caught a booking made after the range check
+            throw new BadRequestException("Some of these time slots were just booked by someone else. Please try again.");
+        }
+        bookingCoordinator.evictAfterCommit(connection.getTrainer().getId());
+
+        int next = 0;
+        for (RecurringBookingResponse.OccurrenceResult result : results) {
+            if (result.getStatus() == RecurringBookingResponse.OccurrenceStatus.BOOKED) {
+                SessionBooking booking = bookings.get(next++);
+                SessionResponse response = SessionResponse.fromEntity(booking);
+                result.setSession(response);
+                publishToParticipants(RealtimeEvent.Type.SESSION_BOOKED, booking, response);
+            }
+        }
+
+        return RecurringBookingResponse.builder()
+                .requested(results.size())
+                .booked(bookings.size())
+                .skipped(results.size() - bookings.size())
+                .occurrences(results)
+                .build();
     }
 
     @Transactional
@@ -109,7 +259,63 @@ public class SessionService {
         booking.setCancelReason(reason);
         booking.setCancelledBy(cancelledBy);
         booking = sessionBookingRepository.save(booking);
-        return SessionResponse.fromEntity(booking);
+        bookingCoordinator.evictAfterCommit(booking.getTrainer().getId());
+        SessionResponse response = SessionResponse.fromEntity(booking);
+        publishToParticipants(RealtimeEvent.Type.SESSION_CANCELLED, booking, response);
+        return response;
+    }
+
+    // Delivered after commit by RealtimeEventRelay; dropped if the transaction rolls back
+    private void publishToParticipants(RealtimeEvent.Type type, SessionBooking booking, Object payload) {
+        eventPublisher.publishEvent(new RealtimeEvent(type,
+                Set.of(booking.getTrainer().getId(), booking.getClient().getId()), payload));
+    }
+
+    /**
+     * COORDINATED mode: checks the trainer side under the trainer's stripe against the cached
+     * calendar, falling back to the overlap query for dates before it. The client side is left
+     * to the no_client_overlap constraint.
+     */
+    private void checkTrainerCalendar(UUID trainerId, LocalDate date, LocalTime start, LocalTime end,
+                                      UUID ignoredSessionId, String conflictMessage) {
+        TrainerBookingCoordinator.TrainerCalendar calendar = bookingCoordinator.lock(trainerId);
+        boolean conflict;
+        if (calendar.covers(date)) {
+            conflict = calendar.overlaps(date, start, end, ignoredSessionId);
+        } else {
+            List<SessionBooking> overlaps = sessionBookingRepository.findOverlappingSessionsForTrainer(
+                    trainerId, date, start, end, BookingStatus.BOOKED);
+            overlaps.removeIf(s -> s.getId().equals(ignoredSessionId));
+            conflict = !overlaps.isEmpty();
+        }
+        if (conflict) {
+            throw new BadRequestException(conflictMessage);
+        }
+    }
+
+    /**
+     * Names the party whose calendar a V7 exclusion constraint rejected, so the caller gets
+     * the same message the overlap pre-check would have given.
+     */
+    private static String overlapMessage(DataIntegrityViolationException e, String trainerMessage,
+                                         String clientMessage, String fallback) {
+        String constraint = null;
+        for (Throwable t = e; t != null && constraint == null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve) {
+                constraint = cve.getConstraintName();
+            }
+        }
+        if (constraint == null) {
+            // Not every dialect extracts the name of an exclusion constraint (SQLState 23P01); use the driver message
+            constraint = String.valueOf(e.getMostSpecificCause().getMessage());
+        }
+        if (constraint.contains("no_trainer_overlap")) {
+            return trainerMessage;
+        }
+        if (constraint.contains("no_client_overlap")) {
+            return clientMessage;
+        }
+        return fallback;
     }
 
     // ==================== RESCHEDULE ====================
@@ -170,31 +376,42 @@ public class SessionService {
         }
 
         if (accept) {
-            // Check for overlaps at the new time
-            List<SessionBooking> trainerOverlaps = sessionBookingRepository.findOverlappingSessionsForTrainer(
-                    booking.getTrainer().getId(), rr.getProposedDate(),
-                    rr.getProposedStartTime(), rr.getProposedEndTime(), BookingStatus.BOOKED);
-            // Exclude the current session from overlap check
-            trainerOverlaps.removeIf(s -> s.getId().equals(booking.getId()));
-            if (!trainerOverlaps.isEmpty()) {
-                throw new BadRequestException("Trainer has a conflicting session at the proposed time");
-            }
-            List<SessionBooking> clientOverlaps = sessionBookingRepository.findOverlappingSessionsForClient(
-                    booking.getClient().getId(), rr.getProposedDate(),
-                    rr.getProposedStartTime(), rr.getProposedEndTime(), BookingStatus.BOOKED);
-            clientOverlaps.removeIf(s -> s.getId().equals(booking.getId()));
-            if (!clientOverlaps.isEmpty()) {
-                throw new BadRequestException("Client has a conflicting session at the proposed time");
+            if (bookingConfig.getMode() == BookingConfig.Mode.PESSIMISTIC) {
+                // Check for overlaps at the new time
+                List<SessionBooking> trainerOverlaps = sessionBookingRepository.findOverlappingSessionsForTrainer(
+                        booking.getTrainer().getId(), rr.getProposedDate(),
+                        rr.getProposedStartTime(), rr.getProposedEndTime(), BookingStatus.BOOKED);
+                // Exclude the current session from overlap check
+                trainerOverlaps.removeIf(s -> s.getId().equals(booking.getId()));
+                if (!trainerOverlaps.isEmpty()) {
+                    throw new BadRequestException(TRAINER_CONFLICT);
+                }
+                List<SessionBooking> clientOverlaps = sessionBookingRepository.findOverlappingSessionsForClient(
+                        booking.getClient().getId(), rr.getProposedDate(),
+                        rr.getProposedStartTime(), rr.getProposedEndTime(), BookingStatus.BOOKED);
+                clientOverlaps.removeIf(s -> s.getId().equals(booking.getId()));
+                if (!clientOverlaps.isEmpty()) {
+                    throw new BadRequestException(CLIENT_CONFLICT);
+                }
+            } else if (bookingConfig.getMode() == BookingConfig.Mode.COORDINATED) {
+                checkTrainerCalendar(booking.getTrainer().getId(), rr.getProposedDate(),
+                        rr.getProposedStartTime(), rr.getProposedEndTime(), booking.getId(), TRAINER_CONFLICT);
             }
 
             // Update the session
+            LocalDate previousDate = booking.getSessionDate();
             booking.setSessionDate(rr.getProposedDate());
             booking.setStartTime(rr.getProposedStartTime());
             booking.setEndTime(rr.getProposedEndTime());
             try {
-                sessionBookingRepository.save(booking);
+                sessionBookingRepository.saveAndFlush(booking);
             } catch (DataIntegrityViolationException e) {
-                throw new BadRequestException("The proposed time slot conflicts with another booking that was just created. Please try a different time.");
+                throw new BadRequestException(overlapMessage(e, TRAINER_CONFLICT, CLIENT_CONFLICT,
+                        "The proposed time slot conflicts with another booking that was just created. Please try a different time."));
+            }
+            if (bookingConfig.getMode() == BookingConfig.Mode.COORDINATED) {
+                bookingCoordinator.movedAfterCommit(booking.getTrainer().getId(), previousDate, new BookedInterval(
+                        booking.getId(), booking.getSessionDate(), booking.getStartTime(), booking.getEndTime()));
             }
 
             rr.setStatus(RescheduleStatus.ACCEPTED);
@@ -203,17 +420,21 @@ public class SessionService {
         }
         rr.setRespondedAt(java.time.LocalDateTime.now());
         rr = rescheduleRequestRepository.save(rr);
-        return RescheduleResponse.fromEntity(rr);
+        RescheduleResponse response = RescheduleResponse.fromEntity(rr);
+        publishToParticipants(RealtimeEvent.Type.RESCHEDULE_RESPONDED, booking, response);
+        return response;
     }
 
+    @Transactional(readOnly = true)
     public List<RescheduleResponse> getRescheduleRequestsForSession(UUID sessionId) {
-        return rescheduleRequestRepository.findBySessionIdOrderByCreatedAtDesc(sessionId).stream()
-                .map(RescheduleResponse::fromEntity).collect(Collectors.toList());
+        return rescheduleRequestRepository.findRowsBySession(sessionId).stream()
+                .map(RescheduleResponse::fromRow).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<RescheduleResponse> getPendingRescheduleRequestsForUser(UUID userId) {
         return rescheduleRequestRepository.findPendingForUser(userId, RescheduleStatus.PENDING).stream()
-                .map(RescheduleResponse::fromEntity).collect(Collectors.toList());
+                .map(RescheduleResponse::fromRow).collect(Collectors.toList());
     }
 
     @Transactional
@@ -227,56 +448,96 @@ public class SessionService {
 
         booking.setStatus(BookingStatus.COMPLETED);
         booking = sessionBookingRepository.save(booking);
+        bookingCoordinator.evictAfterCommit(trainerId);
         return SessionResponse.fromEntity(booking);
     }
 
+    @Transactional(readOnly = true)
     public List<SessionResponse> getSessionsForTrainer(UUID trainerId) {
-        return sessionBookingRepository.findByTrainerIdOrderBySessionDateDescStartTimeDesc(trainerId)
-                .stream().map(SessionResponse::fromEntity).collect(Collectors.toList());
+        return sessionBookingRepository.findRowsByTrainer(trainerId)
+                .stream().map(SessionResponse::fromRow).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SessionResponse> getSessionsForClient(UUID clientId) {
-        return sessionBookingRepository.findByClientIdOrderBySessionDateDescStartTimeDesc(clientId)
-                .stream().map(SessionResponse::fromEntity).collect(Collectors.toList());
+        return sessionBookingRepository.findRowsByClient(clientId)
+                .stream().map(SessionResponse::fromRow).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SessionResponse> getTodaysSessionsForTrainer(UUID trainerId) {
-        return sessionBookingRepository.findByTrainerIdAndSessionDate(trainerId, LocalDate.now())
-                .stream().map(SessionResponse::fromEntity).collect(Collectors.toList());
+        return sessionBookingRepository.findRowsByTrainerAndDate(trainerId, LocalDate.now())
+                .stream().map(SessionResponse::fromRow).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SessionResponse> getTodaysSessionsForClient(UUID clientId) {
-        return sessionBookingRepository.findByClientIdAndSessionDate(clientId, LocalDate.now())
-                .stream().map(SessionResponse::fromEntity).collect(Collectors.toList());
+        return sessionBookingRepository.findRowsByClientAndDate(clientId, LocalDate.now())
+                .stream().map(SessionResponse::fromRow).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public SessionResponse getUpcomingSessionForClient(UUID clientId) {
-        List<SessionBooking> upcoming = sessionBookingRepository
-                .findByClientIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
-                        clientId, LocalDate.now(), BookingStatus.BOOKED);
-        if (upcoming.isEmpty()) return null;
-        return SessionResponse.fromEntity(upcoming.get(0));
+        return sessionBookingRepository
+                .findUpcomingBookedForClient(clientId, LocalDate.now(), PageRequest.of(0, 1))
+                .stream().findFirst().map(SessionResponse::fromRow).orElse(null);
     }
 
+    @Transactional(readOnly = true)
     public SessionResponse getUpcomingSessionForTrainer(UUID trainerId) {
-        List<SessionBooking> upcoming = sessionBookingRepository
-                .findByTrainerIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
-                        trainerId, LocalDate.now(), BookingStatus.BOOKED);
-        if (upcoming.isEmpty()) return null;
-        return SessionResponse.fromEntity(upcoming.get(0));
+        return sessionBookingRepository
+                .findUpcomingBookedForTrainer(trainerId, LocalDate.now(), PageRequest.of(0, 1))
+                .stream().findFirst().map(SessionResponse::fromRow).orElse(null);
     }
 
+    @Transactional(readOnly = true)
     public List<SessionResponse> getUpcomingSessionsForTrainer(UUID trainerId) {
         return sessionBookingRepository
-                .findByTrainerIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
-                        trainerId, LocalDate.now(), BookingStatus.BOOKED)
-                .stream().map(SessionResponse::fromEntity).collect(Collectors.toList());
+                .findUpcomingBookedForTrainer(trainerId, LocalDate.now(), Pageable.unpaged())
+                .stream().map(SessionResponse::fromRow).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SessionResponse> getUpcomingSessionsForClient(UUID clientId) {
         return sessionBookingRepository
-                .findByClientIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
-                        clientId, LocalDate.now(), BookingStatus.BOOKED)
-                .stream().map(SessionResponse::fromEntity).collect(Collectors.toList());
+                .findUpcomingBookedForClient(clientId, LocalDate.now(), Pageable.unpaged())
+                .stream().map(SessionResponse::fromRow).collect(Collectors.toList());
+    }
+
+    /**
+     * Paged session history for a trainer or client, newest first. An empty {@code statuses}
+     * set means every status; {@code from}/{@code to} are inclusive and optional.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<SessionResponse> getSessionHistory(UUID userId, Profile.Role role,
+                                                         Set<BookingStatus> statuses,
+                                                         LocalDate from, LocalDate to,
+                                                         String cursor, Integer limit) {
+        Set<BookingStatus> statusFilter = (statuses == null || statuses.isEmpty())
+                ? EnumSet.allOf(BookingStatus.class) : statuses;
+        LocalDate rangeFrom = from != null ? from : MIN_SESSION_DATE;
+        LocalDate rangeTo = to != null ? to : MAX_SESSION_DATE;
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+
+        int pageSize = CursorPage.resolveLimit(limit);
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+        SessionCursor after = (cursor == null || cursor.isEmpty()) ? null : SessionCursor.decode(cursor);
+
+        List<SessionRow> rows;
+        if (role == Profile.Role.TRAINER) {
+            rows = after == null
+                    ? sessionBookingRepository.findTrainerHistoryFirstPage(userId, statusFilter, rangeFrom, rangeTo, fetch)
+                    : sessionBookingRepository.findTrainerHistoryPageAfter(userId, statusFilter, rangeFrom, rangeTo,
+                            after.sessionDate(), after.startTime(), after.id(), fetch);
+        } else {
+            rows = after == null
+                    ? sessionBookingRepository.findClientHistoryFirstPage(userId, statusFilter, rangeFrom, rangeTo, fetch)
+                    : sessionBookingRepository.findClientHistoryPageAfter(userId, statusFilter, rangeFrom, rangeTo,
+                            after.sessionDate(), after.startTime(), after.id(), fetch);
+        }
+        return CursorPage.fromRows(rows, pageSize, SessionResponse::fromRow,
+                row -> SessionCursor.encode(row.sessionDate(), row.startTime(), row.id()));
     }
 }
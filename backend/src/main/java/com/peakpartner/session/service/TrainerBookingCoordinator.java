@@ -0,0 +1,193 @@
+package com.peakpartner.session.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.peakpartner.common.exception.BadRequestException;
+import com.peakpartner.config.BookingConfig;
+import com.peakpartner.session.model.SessionBooking.BookingStatus;
+import com.peakpartner.session.repository.SessionBookingRepository;
+import com.peakpartner.session.repository.projection.BookedInterval;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process booking coordination for {@code booking.mode=COORDINATED} on a single node.
+ *
+ * <p>Booking and reschedule decisions for a trainer run under one of a fixed set of striped
+ * locks, held until the transaction completes, and are checked against a cached calendar of
+ * the trainer's upcoming BOOKED sessions instead of a locking overlap query. A calendar is
+ * only read or changed by the stripe holder; changes are applied after commit, so a rolled
+ * back booking never appears in it. Calendars are size- and time-bounded and rebuilt from the
+ * database on the next booking after eviction. Writes that bypass the coordinator (cancel,
+ * complete, recurring bookings) evict the trainer's calendar after commit; the V7 exclusion
+ * constraints still reject anything a stale calendar lets through.
+ */
+@Component
+public class TrainerBookingCoordinator implements MeterBinder {
+
+    private static final String CACHE_NAME = "trainerCalendars";
+
+    /** A trainer's BOOKED sessions from {@code from} onwards, by date. */
+    public static final class TrainerCalendar {
+
+        private final LocalDate from;
+        private final Map<LocalDate, List<BookedInterval>> byDate = new HashMap<>();
+
+        private TrainerCalendar(LocalDate from, List<BookedInterval> intervals) {
+            this.from = from;
+            intervals.forEach(this::add);
+        }
+
+        /** Whether the calendar holds every booking on {@code date}; earlier dates are not loaded. */
+        public boolean covers(LocalDate date) {
+            return !date.isBefore(from);
+        }
+
+        public boolean overlaps(LocalDate date, LocalTime start, LocalTime end, UUID ignoredSessionId) {
+            for (BookedInterval interval : byDate.getOrDefault(date, List.of())) {
+                if (!interval.id().equals(ignoredSessionId)
+                        && interval.startTime().isBefore(end) && interval.endTime().isAfter(start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(BookedInterval interval) {
+            byDate.computeIfAbsent(interval.sessionDate(), d -> new ArrayList<>()).add(interval);
+        }
+
+        private void remove(LocalDate date, UUID sessionId) {
+            List<BookedInterval> intervals = byDate.get(date);
+            if (intervals != null) {
+                intervals.removeIf(i -> i.id().equals(sessionId));
+            }
+        }
+    }
+
+    private final SessionBookingRepository sessionBookingRepository;
+    private final ReentrantLock[] stripes;
+    private final long lockTimeoutMillis;
+    private final Cache<UUID, TrainerCalendar> calendars;
+
+    public TrainerBookingCoordinator(SessionBookingRepository sessionBookingRepository, BookingConfig bookingConfig) {
+        BookingConfig.Coordinator config = bookingConfig.getCoordinator();
+        this.sessionBookingRepository = sessionBookingRepository;
+        int size = Integer.highestOneBit(Math.max(1, config.getStripes() * 2 - 1));
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.lockTimeoutMillis = config.getLockTimeout().toMillis();
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(config.getMaxCalendars())
+                .expireAfterWrite(config.getCalendarTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Takes the trainer's stripe until the current transaction completes and returns the
+     * trainer's calendar, loading it on a miss.
+     */
+    public TrainerCalendar lock(UUID trainerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Booking coordination requires an active transaction");
+        }
+        ReentrantLock lock = stripeFor(trainerId);
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new BadRequestException("Too many bookings for this trainer right now. Please try again.");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        return calendars.get(trainerId, this::load);
+    }
+
+    /** Adds a booking to the trainer's calendar once the transaction commits. Caller holds the stripe. */
+    public void bookedAfterCommit(UUID trainerId, BookedInterval interval) {
+        afterCommit(trainerId, calendar -> calendar.add(interval));
+    }
+
+    /** Moves a rescheduled booking once the transaction commits. Caller holds the stripe. */
+    public void movedAfterCommit(UUID trainerId, LocalDate previousDate, BookedInterval interval) {
+        afterCommit(trainerId, calendar -> {
+            calendar.remove(previousDate, interval.id());
+            calendar.add(interval);
+        });
+    }
+
+    /** Drops the trainer's calendar once the transaction commits, for writes made without the stripe. */
+    public void evictAfterCommit(UUID trainerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            calendars.invalidate(trainerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                calendars.invalidate(trainerId);
+            }
+        });
+    }
+
+    // afterCommit callbacks all run before any afterCompletion, so the stripe is still held here
+    private void afterCommit(UUID trainerId, Consumer<TrainerCalendar> change) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                TrainerCalendar calendar = calendars.getIfPresent(trainerId);
+                if (calendar != null) {
+                    change.accept(calendar);
+                }
+            }
+        });
+    }
+
+    private TrainerCalendar load(UUID trainerId) {
+        LocalDate today = LocalDate.now();
+        List<BookedInterval> intervals = sessionBookingRepository
+                .findByTrainerIdAndSessionDateGreaterThanEqualAndStatusOrderBySessionDateAscStartTimeAsc(
+                        trainerId, today, BookingStatus.BOOKED)
+                .stream()
+                .map(s -> new BookedInterval(s.getId(), s.getSessionDate(), s.getStartTime(), s.getEndTime()))
+                .toList();
+        return new TrainerCalendar(today, intervals);
+    }
+
+    private ReentrantLock stripeFor(UUID trainerId) {
+        int h = trainerId.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, calendars, CACHE_NAME);
+    }
+}
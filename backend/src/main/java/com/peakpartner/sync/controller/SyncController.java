@@ -0,0 +1,26 @@
+package com.peakpartner.sync.controller;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.common.dto.ApiResponse;
+import com.peakpartner.sync.dto.SyncResponse;
+import com.peakpartner.sync.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncResponse>> getChanges(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestParam(required = false) String since) {
+        SyncResponse changes = syncService.getChangesSince(currentUser.id(), currentUser.role(), since);
+        return ResponseEntity.ok(ApiResponse.success("Changes retrieved", changes));
+    }
+}
@@ -0,0 +1,33 @@
+package com.peakpartner.sync.dto;
+
+import com.peakpartner.assessment.dto.AssessmentResponse;
+import com.peakpartner.connection.dto.ConnectionResponse;
+import com.peakpartner.plan.dto.DietPlanResponse;
+import com.peakpartner.plan.dto.ExerciseLogResponse;
+import com.peakpartner.plan.dto.MealLogResponse;
+import com.peakpartner.plan.dto.WorkoutPlanResponse;
+import com.peakpartner.session.dto.RescheduleResponse;
+import com.peakpartner.session.dto.SessionResponse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Rows created or updated since the request cursor, as full current state, plus
+ * tombstones for deleted rows. Pass {@code cursor} back as {@code since} on the next call.
+ */
+@Data
+@Builder
+public class SyncResponse {
+    private String cursor;
+    private List<ConnectionResponse> connections;
+    private List<SessionResponse> sessions;
+    private List<RescheduleResponse> rescheduleRequests;
+    private List<WorkoutPlanResponse> workoutPlans;
+    private List<DietPlanResponse> dietPlans;
+    private List<ExerciseLogResponse> exerciseLogs;
+    private List<MealLogResponse> mealLogs;
+    private List<AssessmentResponse> assessments;
+    private List<SyncTombstoneResponse> deleted;
+}
@@ -0,0 +1,26 @@
+package com.peakpartner.sync.dto;
+
+import com.peakpartner.sync.model.SyncTombstone;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+public class SyncTombstoneResponse {
+    private String entityType;
+    private UUID entityId;
+    private UUID connectionId;
+    private LocalDateTime deletedAt;
+
+    public static SyncTombstoneResponse fromEntity(SyncTombstone t) {
+        return SyncTombstoneResponse.builder()
+                .entityType(t.getEntityType())
+                .entityId(t.getEntityId())
+                .connectionId(t.getConnectionId())
+                .deletedAt(t.getDeletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.peakpartner.sync.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Marker left by the database when a synced row is deleted (see V13); never written by the application. */
+@Entity
+@Immutable
+@Table(name = "sync_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstone {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "connection_id")
+    private UUID connectionId;
+
+    @Column(name = "trainer_id")
+    private UUID trainerId;
+
+    @Column(name = "client_id")
+    private UUID clientId;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,33 @@
+package com.peakpartner.sync.repository;
+
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.sync.model.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+
+    // Deleted connections no longer resolve through USER_CONNECTION_IDS, so their
+    // tombstones are matched on the participants recorded with them
+    @Query("SELECT t FROM SyncTombstone t " +
+           "WHERE (t.connectionId IN (" + ConnectionRepository.USER_CONNECTION_IDS + ") " +
+           "OR t.trainerId = :userId OR t.clientId = :userId) " +
+           "AND t.changeSeq >= :fromSeq AND t.changeSeq < :toSeq ORDER BY t.changeSeq")
+    List<SyncTombstone> findChangedForUser(@Param("userId") UUID userId,
+                                           @Param("fromSeq") long fromSeq,
+                                           @Param("toSeq") long toSeq);
+
+    /**
+     * Oldest transaction id still running. Every transaction below it has committed or
+     * rolled back, so all of its writes are already visible and none can appear later.
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)",
+           nativeQuery = true)
+    long currentWatermark();
+}
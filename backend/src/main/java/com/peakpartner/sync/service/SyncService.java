@@ -0,0 +1,115 @@
+package com.peakpartner.sync.service;
+
+import com.peakpartner.assessment.dto.AssessmentResponse;
+import com.peakpartner.assessment.repository.AssessmentRepository;
+import com.peakpartner.common.pagination.KeysetCursor;
+import com.peakpartner.connection.dto.ConnectionResponse;
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.plan.dto.DietPlanResponse;
+import com.peakpartner.plan.dto.ExerciseLogResponse;
+import com.peakpartner.plan.dto.MealLogResponse;
+import com.peakpartner.plan.dto.WorkoutPlanResponse;
+import com.peakpartner.plan.model.DietPlan;
+import com.peakpartner.plan.model.WorkoutPlan;
+import com.peakpartner.plan.repository.*;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.session.dto.RescheduleResponse;
+import com.peakpartner.session.dto.SessionResponse;
+import com.peakpartner.session.repository.RescheduleRequestRepository;
+import com.peakpartner.session.repository.SessionBookingRepository;
+import com.peakpartner.sync.dto.SyncResponse;
+import com.peakpartner.sync.dto.SyncTombstoneResponse;
+import com.peakpartner.sync.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delta sync over the caller's connections. Each synced row carries the id of the
+ * transaction that last wrote it (change_seq, see V13); a sync returns the rows in
+ * [since, watermark) where the watermark is the oldest transaction still running,
+ * and hands the watermark back as the next cursor. Cost follows the number of
+ * changed rows, not the size of the history.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ConnectionRepository connectionRepository;
+    private final SessionBookingRepository sessionBookingRepository;
+    private final RescheduleRequestRepository rescheduleRequestRepository;
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final WorkoutPlanTreeLoader workoutPlanTreeLoader;
+    private final DietPlanRepository dietPlanRepository;
+    private final DietPlanTreeLoader dietPlanTreeLoader;
+    private final ExerciseLogRepository exerciseLogRepository;
+    private final MealLogRepository mealLogRepository;
+    private final AssessmentRepository assessmentRepository;
+
+    @Transactional(readOnly = true)
+    public SyncResponse getChangesSince(UUID userId, Profile.Role role, String since) {
+        long fromSeq = since == null || since.isBlank() ? 0L : decodeCursor(since);
+        // Read before the data: anything below it is final, anything from it on waits for the next sync
+        long toSeq = syncTombstoneRepository.currentWatermark();
+        if (toSeq <= fromSeq) {
+            return emptyResponse(since);
+        }
+
+        List<WorkoutPlan> workoutPlans = workoutPlanRepository.findRootsChangedForUser(userId, fromSeq, toSeq);
+        List<DietPlan> dietPlans = dietPlanRepository.findRootsChangedForUser(userId, fromSeq, toSeq);
+        // Clients never see drafts; a draft reaches them when activation stamps it again
+        if (role == Profile.Role.CLIENT) {
+            workoutPlans = workoutPlans.stream()
+                    .filter(p -> p.getStatus() != WorkoutPlan.PlanStatus.DRAFT)
+                    .toList();
+            dietPlans = dietPlans.stream()
+                    .filter(p -> p.getStatus() != DietPlan.DietPlanStatus.DRAFT)
+                    .toList();
+        }
+
+        return SyncResponse.builder()
+                .cursor(KeysetCursor.encode(toSeq))
+                .connections(connectionRepository.findChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(ConnectionResponse::fromEntity).toList())
+                .sessions(sessionBookingRepository.findRowsChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(SessionResponse::fromRow).toList())
+                .rescheduleRequests(rescheduleRequestRepository.findRowsChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(RescheduleResponse::fromRow).toList())
+                .workoutPlans(workoutPlanTreeLoader.hydrate(workoutPlans).stream()
+                        .map(WorkoutPlanResponse::fromEntity).toList())
+                .dietPlans(dietPlanTreeLoader.hydrate(dietPlans).stream()
+                        .map(DietPlanResponse::fromEntity).toList())
+                .exerciseLogs(exerciseLogRepository.findRowsChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(ExerciseLogResponse::fromRow).toList())
+                .mealLogs(mealLogRepository.findRowsChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(MealLogResponse::fromRow).toList())
+                .assessments(assessmentRepository.findChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(AssessmentResponse::fromEntity).toList())
+                .deleted(syncTombstoneRepository.findChangedForUser(userId, fromSeq, toSeq).stream()
+                        .map(SyncTombstoneResponse::fromEntity).toList())
+                .build();
+    }
+
+    private static long decodeCursor(String cursor) {
+        return KeysetCursor.decode(cursor, 1, keys -> Long.parseLong(keys[0]));
+    }
+
+    private static SyncResponse emptyResponse(String cursor) {
+        return SyncResponse.builder()
+                .cursor(cursor)
+                .connections(List.of())
+                .sessions(List.of())
+                .rescheduleRequests(List.of())
+                .workoutPlans(List.of())
+                .dietPlans(List.of())
+                .exerciseLogs(List.of())
+                .mealLogs(List.of())
+                .assessments(List.of())
+                .deleted(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+-- Partial indexes for the "upcoming" lookups, which only ever ask for BOOKED
+-- sessions from today onwards. Completed/cancelled history never enters them.
+CREATE INDEX IF NOT EXISTS idx_bookings_trainer_booked
+    ON session_bookings (trainer_id, session_date, start_time)
+    WHERE status = 'BOOKED';
+
+CREATE INDEX IF NOT EXISTS idx_bookings_client_booked
+    ON session_bookings (client_id, session_date, start_time)
+    WHERE status = 'BOOKED';
+
+-- Keyset pagination indexes for session history, newest first
+CREATE INDEX IF NOT EXISTS idx_bookings_trainer_history
+    ON session_bookings (trainer_id, session_date DESC, start_time DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_client_history
+    ON session_bookings (client_id, session_date DESC, start_time DESC, id DESC);
+
+-- Superseded by the history indexes (same leading columns)
+DROP INDEX IF EXISTS idx_bookings_trainer;
+DROP INDEX IF EXISTS idx_bookings_client;
@@ -0,0 +1,38 @@
+-- Time-ordered UUIDv7 ids (RFC 9562) for rows inserted outside the application.
+-- The application assigns v7 ids itself; this keeps DB-side defaults consistent.
+--
+-- Takes a random v4 UUID, overwrites the first 48 bits with the Unix epoch in
+-- milliseconds and flips the version nibble from 4 (0100) to 7 (0111).
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+-- Only column defaults change: a catalog update with no table rewrite. Existing
+-- random v4 keys stay valid and simply sort among the new ones.
+ALTER TABLE trainer_availability ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE connections          ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE conversations        ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE messages             ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE workout_plans        ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE plan_days            ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE plan_exercises       ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE exercise_logs        ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE diet_plans           ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE diet_plan_meals      ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE diet_meal_items      ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE meal_logs            ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE trainer_reviews      ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE session_bookings     ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE progress_photos      ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE body_measurements    ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE notifications        ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE assessments          ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE reschedule_requests  ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,17 @@
+-- Version stamped into access tokens as the "ver" claim. Bumped whenever a
+-- profile's role changes so tokens issued for the old role stop being accepted.
+ALTER TABLE profiles ADD COLUMN IF NOT EXISTS auth_version INTEGER NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION bump_profile_auth_version() RETURNS trigger AS $$
+BEGIN
+    IF NEW.role IS DISTINCT FROM OLD.role THEN
+        NEW.auth_version := OLD.auth_version + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_profiles_auth_version ON profiles;
+CREATE TRIGGER trg_profiles_auth_version
+    BEFORE UPDATE OF role ON profiles
+    FOR EACH ROW EXECUTE FUNCTION bump_profile_auth_version();
@@ -0,0 +1,98 @@
+-- Delta sync: every synced row carries change_seq, the 64-bit id of the transaction
+-- that last wrote it, and deletions leave a tombstone stamped the same way.
+--
+-- Transaction ids rather than a plain sequence: a sequence value is taken before
+-- commit, so a slow transaction can commit a lower number after a reader has already
+-- moved past it. GET /sync reads rows in [cursor, xmin of its snapshot); every
+-- transaction below that xmin has finished, so nothing can appear behind the cursor.
+-- Existing rows start at 0 and are picked up by the first (cursor-less) sync.
+ALTER TABLE connections         ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE session_bookings    ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reschedule_requests ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE workout_plans       ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE diet_plans          ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE exercise_logs       ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE meal_logs           ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE assessments         ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE OR REPLACE FUNCTION stamp_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    change_seq BIGINT NOT NULL,
+    entity_type VARCHAR(40) NOT NULL,
+    entity_id UUID NOT NULL,
+    connection_id UUID,
+    -- Only set for deleted connections, which can no longer be resolved to their participants
+    trainer_id UUID,
+    client_id UUID,
+    deleted_at TIMESTAMPTZ DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_tombstones_seq ON sync_tombstones(change_seq);
+
+-- TG_ARGV[0] is the entity type reported to clients. Rows removed by a connection
+-- cascade get a tombstone whose connection no longer resolves; clients drop them
+-- together with the connection's own tombstone.
+CREATE OR REPLACE FUNCTION record_sync_tombstone() RETURNS trigger AS $$
+DECLARE
+    v_connection_id UUID;
+BEGIN
+    IF TG_TABLE_NAME = 'connections' THEN
+        INSERT INTO sync_tombstones (change_seq, entity_type, entity_id, connection_id, trainer_id, client_id)
+        VALUES (pg_current_xact_id()::text::bigint, TG_ARGV[0], OLD.id, OLD.id, OLD.trainer_id, OLD.client_id);
+        RETURN OLD;
+    END IF;
+
+    IF TG_TABLE_NAME = 'reschedule_requests' THEN
+        SELECT connection_id INTO v_connection_id FROM session_bookings WHERE id = OLD.session_id;
+    ELSE
+        v_connection_id := OLD.connection_id;
+    END IF;
+
+    INSERT INTO sync_tombstones (change_seq, entity_type, entity_id, connection_id)
+    VALUES (pg_current_xact_id()::text::bigint, TG_ARGV[0], OLD.id, v_connection_id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    t RECORD;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES
+            ('connections', 'CONNECTION'),
+            ('session_bookings', 'SESSION'),
+            ('reschedule_requests', 'RESCHEDULE_REQUEST'),
+            ('workout_plans', 'WORKOUT_PLAN'),
+            ('diet_plans', 'DIET_PLAN'),
+            ('exercise_logs', 'EXERCISE_LOG'),
+            ('meal_logs', 'MEAL_LOG'),
+            ('assessments', 'ASSESSMENT')) AS v(table_name, entity_type)
+    LOOP
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_change_seq ON %I', t.table_name, t.table_name);
+        EXECUTE format('CREATE TRIGGER trg_%s_change_seq BEFORE INSERT OR UPDATE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION stamp_change_seq()', t.table_name, t.table_name);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_tombstone ON %I', t.table_name, t.table_name);
+        EXECUTE format('CREATE TRIGGER trg_%s_tombstone AFTER DELETE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone(%L)',
+                       t.table_name, t.table_name, t.entity_type);
+    END LOOP;
+END;
+$$;
+
+-- Sync reads each table by connection and change_seq range
+CREATE INDEX IF NOT EXISTS idx_connections_trainer_change ON connections(trainer_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_connections_client_change ON connections(client_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_bookings_connection_change ON session_bookings(connection_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_reschedule_change ON reschedule_requests(change_seq);
+CREATE INDEX IF NOT EXISTS idx_workout_plans_connection_change ON workout_plans(connection_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_diet_plans_connection_change ON diet_plans(connection_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_exercise_logs_connection_change ON exercise_logs(connection_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_meal_logs_connection_change ON meal_logs(connection_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_assessments_connection_change ON assessments(connection_id, change_seq);
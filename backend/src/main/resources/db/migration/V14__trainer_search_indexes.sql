@@ -0,0 +1,16 @@
+-- Trainer directory search. All indexes are partial on role = 'TRAINER' so client
+-- profiles never enter them.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Specialization filter, queried as specializations @> ARRAY[...] (= ANY cannot use an index)
+CREATE INDEX IF NOT EXISTS idx_profiles_trainer_specializations
+    ON profiles USING GIN (specializations) WHERE role = 'TRAINER';
+
+-- Name prefix (LIKE 'abc%') and fuzzy (%) matching on the lower-cased name
+CREATE INDEX IF NOT EXISTS idx_profiles_trainer_name_trgm
+    ON profiles USING GIN (lower(full_name) gin_trgm_ops) WHERE role = 'TRAINER';
+
+-- Ranking order for keyset pages: rating, then experience, then id
+CREATE INDEX IF NOT EXISTS idx_profiles_trainer_rank
+    ON profiles ((COALESCE(avg_rating, 0)) DESC, (COALESCE(experience_years, 0)) DESC, id DESC)
+    WHERE role = 'TRAINER';
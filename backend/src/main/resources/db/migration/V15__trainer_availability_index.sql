@@ -0,0 +1,5 @@
+-- Slot computation loads a trainer's active rules in one query: the weekly rules
+-- (specific_date IS NULL) plus the date overrides that fall inside the requested range.
+CREATE INDEX IF NOT EXISTS idx_trainer_availability_active
+    ON trainer_availability (trainer_id, specific_date)
+    WHERE is_active;
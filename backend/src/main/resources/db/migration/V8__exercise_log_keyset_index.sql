@@ -0,0 +1,8 @@
+-- Keyset pagination index for exercise log history.
+-- Matches ORDER BY log_date DESC, created_at DESC, id DESC within a connection so each
+-- page is a bounded index range scan no matter how deep the history goes.
+CREATE INDEX IF NOT EXISTS idx_exercise_logs_connection_keyset
+    ON exercise_logs (connection_id, log_date DESC, created_at DESC, id DESC);
+
+-- Superseded by the keyset index (same leading column)
+DROP INDEX IF EXISTS idx_exercise_logs_connection;
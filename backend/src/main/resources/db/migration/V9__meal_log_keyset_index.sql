@@ -0,0 +1,12 @@
+-- Keyset pagination indexes for meal log history, by connection (trainer review)
+-- and by client. Date-range filters and the (log_date, created_at, id) seek both
+-- resolve to a single bounded range scan.
+CREATE INDEX IF NOT EXISTS idx_meal_logs_connection_keyset
+    ON meal_logs (connection_id, log_date DESC, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_meal_logs_client_keyset
+    ON meal_logs (client_id, log_date DESC, created_at DESC, id DESC);
+
+-- Superseded by the keyset indexes (same leading columns)
+DROP INDEX IF EXISTS idx_meal_logs_connection;
+DROP INDEX IF EXISTS idx_meal_logs_client;
@@ -0,0 +1,135 @@
+package com.peakpartner;
+
+import com.peakpartner.connection.dto.ConnectionResponse;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.connection.service.ConnectionService;
+import com.peakpartner.plan.dto.CreateWorkoutPlanRequest;
+import com.peakpartner.plan.dto.WorkoutPlanResponse;
+import com.peakpartner.plan.repository.WorkoutPlanRepository;
+import com.peakpartner.plan.service.PlanService;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.session.dto.CreateSessionRequest;
+import com.peakpartner.session.dto.SessionResponse;
+import com.peakpartner.session.repository.SessionBookingRepository;
+import com.peakpartner.session.service.SessionService;
+import com.peakpartner.support.PostgresIntegrationTest;
+import com.peakpartner.support.TestFixtures;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * With open-session-in-view off and {@code enable_lazy_load_no_trans} pinned to false, a
+ * lazy association touched outside a transaction must fail rather than quietly open a
+ * session. The service read methods build their DTOs inside their own transaction, so
+ * they keep working when called without one.
+ */
+class LazyLoadOutsideTransactionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ConnectionRepository connectionRepository;
+
+    @Autowired
+    private SessionBookingRepository sessionBookingRepository;
+
+    @Autowired
+    private WorkoutPlanRepository workoutPlanRepository;
+
+    @Autowired
+    private ConnectionService connectionService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PlanService planService;
+
+    private Profile trainer;
+    private Profile client;
+    private Connection connection;
+    private UUID sessionId;
+    private UUID planId;
+
+    @BeforeEach
+    void createData() {
+        trainer = fixtures.trainer();
+        client = fixtures.client();
+        connection = fixtures.acceptedConnection(trainer, client);
+
+        CreateSessionRequest session = new CreateSessionRequest();
+        session.setConnectionId(connection.getId());
+        session.setSessionDate(LocalDate.now().plusDays(1));
+        session.setStartTime(LocalTime.of(10, 0));
+        session.setEndTime(LocalTime.of(11, 0));
+        sessionId = sessionService.createSession(trainer.getId(), session).getId();
+
+        CreateWorkoutPlanRequest plan = new CreateWorkoutPlanRequest();
+        plan.setConnectionId(connection.getId());
+        plan.setTitle("Plan");
+        plan.setProgram(Connection.ProgramType.GENERAL_FITNESS);
+        plan.setDuration("WEEKLY");
+        plan.setStartDate(LocalDate.now());
+        plan.setEndDate(LocalDate.now().plusWeeks(1));
+        CreateWorkoutPlanRequest.PlanDayInput day = new CreateWorkoutPlanRequest.PlanDayInput();
+        day.setDayNumber(1);
+        day.setDayName("Day 1");
+        CreateWorkoutPlanRequest.ExerciseInput exercise = new CreateWorkoutPlanRequest.ExerciseInput();
+        exercise.setExerciseName("Squat");
+        exercise.setSets(3);
+        exercise.setReps("10");
+        day.setExercises(List.of(exercise));
+        plan.setDays(List.of(day));
+        planId = planService.createWorkoutPlan(trainer.getId(), plan).getId();
+    }
+
+    @Test
+    void mappingOutsideATransactionFailsOnLazyAssociations() {
+        Connection detachedConnection = connectionRepository.findById(connection.getId()).orElseThrow();
+        assertThatThrownBy(() -> ConnectionResponse.fromEntity(detachedConnection))
+                .isInstanceOf(LazyInitializationException.class);
+
+        var detachedSession = sessionBookingRepository.findById(sessionId).orElseThrow();
+        assertThatThrownBy(() -> SessionResponse.fromEntity(detachedSession))
+                .isInstanceOf(LazyInitializationException.class);
+
+        var detachedPlan = workoutPlanRepository.findById(planId).orElseThrow();
+        assertThatThrownBy(() -> WorkoutPlanResponse.fromEntity(detachedPlan))
+                .isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    void serviceListMethodsMapInsideTheirOwnTransaction() {
+        assertThat(connectionService.getMyConnections(trainer.getId(), null))
+                .singleElement()
+                .satisfies(c -> assertThat(c.getClient().getFullName()).isEqualTo(client.getFullName()));
+
+        assertThat(sessionService.getSessionsForTrainer(trainer.getId()))
+                .singleElement()
+                .satisfies(s -> assertThat(s.getClientName()).isEqualTo(client.getFullName()));
+        assertThat(sessionService.getSessionsForClient(client.getId()))
+                .singleElement()
+                .satisfies(s -> assertThat(s.getTrainerName()).isEqualTo(trainer.getFullName()));
+        assertThat(sessionService.getUpcomingSessionsForClient(client.getId())).hasSize(1);
+
+        assertThat(planService.getWorkoutPlansByTrainer(trainer.getId()))
+                .singleElement()
+                .satisfies(p -> assertThat(p.getDays()).singleElement()
+                        .satisfies(d -> assertThat(d.getExercises()).hasSize(1)));
+        // New plans are drafts, which the client does not see yet
+        assertThat(planService.getWorkoutPlansByClient(client.getId())).isEmpty();
+        assertThat(planService.getWorkoutPlansByConnection(connection.getId())).hasSize(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.peakpartner.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of verifying one bearer token per request, for the three paths the filter has had:
+ * <ul>
+ *   <li>{@code legacy}: the original filter, which rebuilt the key and parsed the token three
+ *       times (subject, subject again, expiry);</li>
+ *   <li>{@code uncached}: {@link JwtService#verify} on a cache miss, with one parse against the
+ *       prebuilt key and parser, plus the digest and cache put;</li>
+ *   <li>{@code cached}: {@link JwtService#verify} on a hit, as on every request after the first
+ *       within a dashboard load.</li>
+ * </ul>
+ * The uncached case cycles through more tokens than a one-entry cache holds, so nearly every
+ * call misses. Not a test; run it from {@code backend/} with:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp target/test-classes:target/classes:$(cat target/test.classpath) \
+ *     com.peakpartner.auth.service.JwtVerifyBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final long EXPIRATION_MS = 60 * 60 * 1000L;
+    private static final int UNCACHED_TOKENS = 1024;
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachedService = new JwtService(SECRET, EXPIRATION_MS, 10_000);
+        uncachedService = new JwtService(SECRET, EXPIRATION_MS, 1);
+        token = cachedService.generateToken(UUID.randomUUID(), "bench@test.local", "CLIENT", 0);
+        cachedService.verify(token);
+
+        tokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = uncachedService.generateToken(UUID.randomUUID(), "bench@test.local", "CLIENT", 0);
+        }
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String userId = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(userId)
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> uncached() {
+        next = (next + 1) % tokens.length;
+        return uncachedService.verify(tokens[next]);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> cached() {
+        return cachedService.verify(token);
+    }
+
+    // JwtService before verification was consolidated: a new key and parser on every call
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerifyBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.peakpartner.auth.service;
+
+import com.peakpartner.auth.dto.AuthResponse;
+import com.peakpartner.auth.dto.LoginRequest;
+import com.peakpartner.auth.dto.SignUpRequest;
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roles only change through SQL, where trg_profiles_auth_version bumps auth_version behind
+ * Hibernate's back. The L2 copy of the profile keeps the old role, so token checks and
+ * refresh must read the row itself.
+ */
+class RoleChangeInSqlTest extends PostgresIntegrationTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenAuthenticator tokenAuthenticator;
+
+    @Autowired
+    private AuthProfileCache authProfileCache;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void roleChangeRejectsOldTokensAndRefreshIssuesTheNewRole() {
+        SignUpRequest signUp = new SignUpRequest();
+        signUp.setFullName("Role Change");
+        signUp.setEmail(UUID.randomUUID() + "@test.local");
+        signUp.setPassword(PASSWORD);
+        signUp.setRole(Profile.Role.CLIENT);
+        AuthResponse issued = authService.signup(signUp);
+        UUID userId = issued.getUserId();
+        assertThat(tokenAuthenticator.authenticate(issued.getAccessToken())).isPresent();
+
+        jdbcTemplate.update("UPDATE profiles SET role = 'TRAINER' WHERE id = ?", userId);
+        // Stands in for this cache's own short TTL running out
+        authProfileCache.invalidate(userId);
+
+        // The L2 entity cache still has the old role; everything below must not use it
+        assertThat(profileRepository.findById(userId)).get()
+                .extracting(Profile::getRole).isEqualTo(Profile.Role.CLIENT);
+
+        assertThat(tokenAuthenticator.authenticate(issued.getAccessToken())).isEmpty();
+
+        AuthResponse refreshed = authService.refresh(issued.getRefreshToken());
+        assertThat(refreshed.getRole()).isEqualTo("TRAINER");
+        assertThat(tokenAuthenticator.authenticate(refreshed.getAccessToken())).get()
+                .extracting(auth -> ((AuthenticatedUser) auth.getPrincipal()).role())
+                .isEqualTo(Profile.Role.TRAINER);
+
+        LoginRequest login = new LoginRequest();
+        login.setEmail(signUp.getEmail());
+        login.setPassword(PASSWORD);
+        AuthResponse loggedIn = authService.login(login);
+        assertThat(loggedIn.getRole()).isEqualTo("TRAINER");
+        assertThat(tokenAuthenticator.authenticate(loggedIn.getAccessToken())).isPresent();
+    }
+}
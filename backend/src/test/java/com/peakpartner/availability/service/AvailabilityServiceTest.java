@@ -0,0 +1,99 @@
+package com.peakpartner.availability.service;
+
+import com.peakpartner.availability.model.TrainerAvailability;
+import com.peakpartner.availability.repository.TrainerAvailabilityRepository;
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.profile.repository.ProfileRepository;
+import com.peakpartner.session.repository.SessionBookingRepository;
+import com.peakpartner.session.repository.projection.BookedInterval;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    private static final UUID TRAINER_ID = UUID.randomUUID();
+
+    @Mock
+    private TrainerAvailabilityRepository availabilityRepository;
+
+    @Mock
+    private SessionBookingRepository sessionBookingRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private ConnectionRepository connectionRepository;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    // A week out, so clearing the past part of today never applies
+    private final LocalDate from = LocalDate.now().plusDays(7);
+    private final LocalDate to = from.plusDays(7);
+
+    @Test
+    void zeroLengthOverrideMarksTheDayOff() {
+        when(availabilityRepository.findActiveRulesInRange(TRAINER_ID, from, to)).thenReturn(List.of(
+                weekly(from, LocalTime.of(9, 0), LocalTime.of(17, 0)),
+                override(from, LocalTime.MIDNIGHT, LocalTime.MIDNIGHT)));
+        when(sessionBookingRepository.findBookedIntervalsForTrainer(TRAINER_ID, from, to)).thenReturn(List.of());
+
+        Map<LocalDate, DayGrid> grids = availabilityService.buildTrainerGrids(TRAINER_ID, from, to);
+
+        assertThat(grids).hasSize(8);
+        assertThat(grids.get(from).isEmpty()).isTrue();
+        // The weekly rule still applies the following week
+        assertThat(grids.get(to).windows(1)).containsExactly(new DayGrid.Window(36, 68));
+    }
+
+    @Test
+    void overridesReplaceTheWeeklyRulesAndBookingsAreCleared() {
+        when(availabilityRepository.findActiveRulesInRange(TRAINER_ID, from, to)).thenReturn(List.of(
+                weekly(from, LocalTime.of(9, 0), LocalTime.of(17, 0)),
+                override(from, LocalTime.of(18, 0), LocalTime.of(23, 59))));
+        when(sessionBookingRepository.findBookedIntervalsForTrainer(TRAINER_ID, from, to)).thenReturn(List.of(
+                new BookedInterval(UUID.randomUUID(), from, LocalTime.of(19, 0), LocalTime.of(20, 0)),
+                new BookedInterval(UUID.randomUUID(), to, LocalTime.of(9, 0), LocalTime.of(10, 0))));
+
+        Map<LocalDate, DayGrid> grids = availabilityService.buildTrainerGrids(TRAINER_ID, from, to);
+
+        assertThat(grids.get(from).windows(1)).containsExactly(
+                new DayGrid.Window(72, 76), new DayGrid.Window(80, DayGrid.SLOTS_PER_DAY));
+        assertThat(grids.get(to).windows(1)).containsExactly(new DayGrid.Window(40, 68));
+    }
+
+    private static TrainerAvailability weekly(LocalDate date, LocalTime start, LocalTime end) {
+        return TrainerAvailability.builder()
+                .dayOfWeek(date.getDayOfWeek().getValue() % 7)
+                .startTime(start)
+                .endTime(end)
+                .isRecurring(true)
+                .isActive(true)
+                .build();
+    }
+
+    private static TrainerAvailability override(LocalDate date, LocalTime start, LocalTime end) {
+        return TrainerAvailability.builder()
+                .dayOfWeek(date.getDayOfWeek().getValue() % 7)
+                .startTime(start)
+                .endTime(end)
+                .isRecurring(false)
+                .specificDate(date)
+                .isActive(true)
+                .build();
+    }
+}
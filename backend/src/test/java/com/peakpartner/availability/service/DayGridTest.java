@@ -0,0 +1,93 @@
+package com.peakpartner.availability.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DayGridTest {
+
+    @Test
+    void offGridBookingNextToAvailabilityEdgeNeverOverlapsAWindow() {
+        DayGrid grid = new DayGrid();
+        // Free time rounds inwards: 09:05-11:50 becomes 09:15-11:45
+        grid.markFree(LocalTime.of(9, 5), LocalTime.of(11, 50));
+        // Busy time rounds outwards: 11:40-12:30 takes the 11:30 cell as well
+        grid.markBusy(LocalTime.of(11, 40), LocalTime.of(12, 30));
+
+        assertThat(grid.windows(1)).containsExactly(new DayGrid.Window(37, 46));
+        DayGrid.Window window = grid.windows(1).get(0);
+        assertThat(window.start()).isEqualTo(LocalTime.of(9, 15));
+        assertThat(window.end()).isEqualTo(LocalTime.of(11, 30));
+    }
+
+    @Test
+    void offGridBookingInsideAvailabilitySplitsItOnWholeCells() {
+        DayGrid grid = new DayGrid();
+        grid.markFree(LocalTime.of(9, 0), LocalTime.of(12, 0));
+        grid.markBusy(LocalTime.of(11, 10), LocalTime.of(11, 40));
+
+        assertThat(grid.windows(1)).extracting(DayGrid.Window::start, DayGrid.Window::end)
+                .containsExactly(
+                        tuple(LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                        tuple(LocalTime.of(11, 45), LocalTime.of(12, 0)));
+        // The 15-minute remainder is too short for a 30-minute session
+        assertThat(grid.windows(DayGrid.slotsFor(30))).containsExactly(new DayGrid.Window(36, 44));
+    }
+
+    @Test
+    void endOf2359ClosesTheLastCell() {
+        DayGrid grid = new DayGrid();
+        grid.markFree(LocalTime.of(22, 0), LocalTime.of(23, 59));
+
+        DayGrid.Window window = grid.windows(1).get(0);
+        assertThat(window.endSlot()).isEqualTo(DayGrid.SLOTS_PER_DAY);
+        assertThat(window.end()).isEqualTo(LocalTime.MAX);
+        assertThat(window.minutes()).isEqualTo(120);
+
+        grid.markBusy(LocalTime.of(23, 30), LocalTime.of(23, 59));
+        assertThat(grid.windows(1)).containsExactly(new DayGrid.Window(88, 94));
+    }
+
+    @Test
+    void zeroLengthRangeMarksNothing() {
+        DayGrid grid = new DayGrid();
+        grid.markFree(LocalTime.of(10, 0), LocalTime.of(10, 0));
+        assertThat(grid.isEmpty()).isTrue();
+
+        // Shorter than a cell and off the grid: nothing whole is left after rounding inwards
+        grid.markFree(LocalTime.of(10, 5), LocalTime.of(10, 14));
+        assertThat(grid.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clearBeforeHidesEveryCellStartingBeforeTheTime() {
+        DayGrid grid = new DayGrid();
+        grid.markFree(LocalTime.of(8, 0), LocalTime.of(12, 0));
+
+        grid.clearBefore(LocalTime.MIDNIGHT);
+        assertThat(grid.windows(1)).containsExactly(new DayGrid.Window(32, 48));
+
+        // The 09:00 cell has already started at 09:10
+        grid.clearBefore(LocalTime.of(9, 10));
+        assertThat(grid.windows(1)).containsExactly(new DayGrid.Window(37, 48));
+
+        grid.clearBefore(LocalTime.of(9, 15));
+        assertThat(grid.windows(1)).containsExactly(new DayGrid.Window(37, 48));
+
+        grid.clearBefore(LocalTime.of(23, 59));
+        assertThat(grid.isEmpty()).isTrue();
+    }
+
+    @Test
+    void windowsSkipRunsShorterThanTheMinimum() {
+        DayGrid grid = new DayGrid();
+        grid.markFree(LocalTime.of(6, 0), LocalTime.of(6, 30));
+        grid.markFree(LocalTime.of(7, 0), LocalTime.of(8, 0));
+
+        assertThat(grid.windows(DayGrid.slotsFor(45))).containsExactly(new DayGrid.Window(28, 32));
+        assertThat(grid.windows(0)).hasSize(2);
+    }
+}
@@ -0,0 +1,68 @@
+package com.peakpartner.availability.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of ranking mutual-slot candidates over the longest range the API accepts
+ * ({@link AvailabilityService#MAX_RANGE_DAYS} days), each day split into hour-long windows
+ * by bookings, for the top 10 with and without a preferred start.
+ * Not a test; run it from {@code backend/} with:
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp target/test-classes:target/classes:$(cat target/test.classpath) \
+ *     com.peakpartner.availability.service.SlotRankerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotRankerBenchmark {
+
+    private static final int DURATION_SLOTS = DayGrid.slotsFor(30);
+    private static final int PREFERRED_SLOT = 50;
+    private static final int LIMIT = 10;
+
+    private Map<LocalDate, DayGrid> grids;
+
+    @Setup
+    public void setUp() {
+        grids = SlotRankerTest.fragmentedDays(AvailabilityService.MAX_RANGE_DAYS);
+    }
+
+    @Benchmark
+    public List<SlotRanker.Candidate> earliestFirst() {
+        return SlotRanker.rank(grids, SlotRankerTest.DAY, DURATION_SLOTS, null, LIMIT);
+    }
+
+    @Benchmark
+    public List<SlotRanker.Candidate> nearPreferredStart() {
+        return SlotRanker.rank(grids, SlotRankerTest.DAY, DURATION_SLOTS, PREFERRED_SLOT, LIMIT);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SlotRankerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.peakpartner.availability.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SlotRankerTest {
+
+    static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+    private static final int ONE_HOUR = DayGrid.slotsFor(60);
+
+    @Test
+    void withoutPreferenceOffersWindowEdgesEarliestFirst() {
+        Map<LocalDate, DayGrid> grids = Map.of(DAY, grid(
+                LocalTime.of(9, 0), LocalTime.of(12, 0),
+                LocalTime.of(14, 0), LocalTime.of(15, 0)));
+
+        List<SlotRanker.Candidate> ranked = SlotRanker.rank(grids, DAY, ONE_HOUR, null, 10);
+
+        // 09:00 and 11:00 from the first window; the second fits exactly once
+        assertThat(ranked).extracting(SlotRanker.Candidate::startSlot, SlotRanker.Candidate::endSlot)
+                .containsExactly(tuple(36, 40), tuple(44, 48), tuple(56, 60));
+    }
+
+    @Test
+    void preferredStartInsideAWindowRanksFirstDespiteTheSplit() {
+        Map<LocalDate, DayGrid> grids = Map.of(DAY, grid(LocalTime.of(9, 0), LocalTime.of(12, 0)));
+
+        List<SlotRanker.Candidate> ranked = SlotRanker.rank(grids, DAY, ONE_HOUR, 40, 10);
+
+        assertThat(ranked).extracting(SlotRanker.Candidate::startSlot, SlotRanker.Candidate::cost)
+                .containsExactly(tuple(40, 2), tuple(36, 4), tuple(44, 4));
+    }
+
+    @Test
+    void preferredStartOnAnEdgeIsNotOfferedTwice() {
+        Map<LocalDate, DayGrid> grids = Map.of(DAY, grid(LocalTime.of(9, 0), LocalTime.of(12, 0)));
+
+        List<SlotRanker.Candidate> ranked = SlotRanker.rank(grids, DAY, ONE_HOUR, 36, 10);
+
+        assertThat(ranked).extracting(SlotRanker.Candidate::startSlot, SlotRanker.Candidate::cost)
+                .containsExactly(tuple(36, 0), tuple(44, 8));
+    }
+
+    @Test
+    void keepsTheBestNAcrossDays() {
+        Map<LocalDate, DayGrid> grids = new HashMap<>();
+        grids.put(DAY.plusDays(1), grid(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        grids.put(DAY, grid(LocalTime.of(9, 0), LocalTime.of(12, 0)));
+
+        // A day later costs DAY_COST even at exactly the preferred time
+        assertThat(SlotRanker.rank(grids, DAY, ONE_HOUR, 40, 4))
+                .extracting(SlotRanker.Candidate::date, SlotRanker.Candidate::startSlot)
+                .containsExactly(tuple(DAY, 40), tuple(DAY, 36), tuple(DAY, 44), tuple(DAY.plusDays(1), 40));
+        assertThat(SlotRanker.rank(grids, DAY, ONE_HOUR, 40, 2))
+                .extracting(SlotRanker.Candidate::date, SlotRanker.Candidate::startSlot)
+                .containsExactly(tuple(DAY, 40), tuple(DAY, 36));
+
+        assertThat(SlotRanker.rank(grids, DAY, ONE_HOUR, null, 3))
+                .extracting(SlotRanker.Candidate::date, SlotRanker.Candidate::startSlot)
+                .containsExactly(tuple(DAY, 36), tuple(DAY, 44), tuple(DAY.plusDays(1), 40));
+    }
+
+    @Test
+    void noWindowLongEnoughGivesNoCandidates() {
+        Map<LocalDate, DayGrid> grids = Map.of(DAY, grid(LocalTime.of(9, 0), LocalTime.of(9, 45)));
+
+        assertThat(SlotRanker.rank(grids, DAY, ONE_HOUR, 36, 10)).isEmpty();
+    }
+
+    @Test
+    void longestRangeKeepsOnlyTheLimit() {
+        Map<LocalDate, DayGrid> grids = fragmentedDays(AvailabilityService.MAX_RANGE_DAYS);
+
+        assertThat(SlotRanker.rank(grids, DAY, DayGrid.slotsFor(30), 50, 10)).hasSize(10);
+    }
+
+    // Each day 06:00-22:00 broken up by a booking every other hour; shared with SlotRankerBenchmark
+    static Map<LocalDate, DayGrid> fragmentedDays(int days) {
+        Map<LocalDate, DayGrid> grids = new HashMap<>();
+        for (int d = 0; d < days; d++) {
+            DayGrid grid = grid(LocalTime.of(6, 0), LocalTime.of(22, 0));
+            for (int hour = 7; hour < 22; hour += 2) {
+                grid.markBusy(LocalTime.of(hour, 0), LocalTime.of(hour, 50));
+            }
+            grids.put(DAY.plusDays(d), grid);
+        }
+        return grids;
+    }
+
+    // Pairs of start and end times marked free
+    private static DayGrid grid(LocalTime... bounds) {
+        DayGrid grid = new DayGrid();
+        for (int i = 0; i < bounds.length; i += 2) {
+            grid.markFree(bounds[i], bounds[i + 1]);
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,108 @@
+package com.peakpartner.common.etag;
+
+import com.peakpartner.auth.model.AuthenticatedUser;
+import com.peakpartner.auth.service.TokenAuthenticator;
+import com.peakpartner.common.querycount.QueryCountHeaderAdvice;
+import com.peakpartner.config.CorsConfig;
+import com.peakpartner.config.SecurityConfig;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.session.controller.SessionController;
+import com.peakpartner.session.service.SessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The 304 path of {@link ConditionalGetInterceptor} through the real security chain: a
+ * matching {@code If-None-Match} never reaches the controller, and a version bump makes the
+ * same request load again.
+ */
+@WebMvcTest(SessionController.class)
+@Import({SecurityConfig.class, CorsConfig.class, ConditionalGetInterceptor.class, UserDataVersions.class})
+class ConditionalGetInterceptorTest {
+
+    private static final String TOKEN = "test-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserDataVersions userDataVersions;
+
+    @MockBean
+    private SessionService sessionService;
+
+    @MockBean
+    private TokenAuthenticator tokenAuthenticator;
+
+    // @EnableJpaAuditing on the application class needs a mapping context even in a web slice
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    private final UUID trainerId = UUID.randomUUID();
+
+    @BeforeEach
+    void authenticate() {
+        AuthenticatedUser user = new AuthenticatedUser(trainerId, "trainer@test.local", Profile.Role.TRAINER);
+        when(tokenAuthenticator.authenticate(TOKEN)).thenAnswer(invocation -> Optional.of(
+                new UsernamePasswordAuthenticationToken(user, null,
+                        List.of(new SimpleGrantedAuthority("ROLE_TRAINER")))));
+        when(sessionService.getTodaysSessionsForTrainer(trainerId)).thenReturn(List.of());
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredBeforeTheController() throws Exception {
+        String etag = userDataVersions.etagFor(trainerId);
+
+        mockMvc.perform(get("/sessions/today")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(QueryCountHeaderAdvice.HEADER, "0"));
+
+        verifyNoInteractions(sessionService);
+    }
+
+    @Test
+    void bumpedVersionLoadsAgainWithANewEtag() throws Exception {
+        String etag = userDataVersions.etagFor(trainerId);
+        userDataVersions.bumpAfterCommit(List.of(trainerId));
+
+        MvcResult result = mockMvc.perform(get("/sessions/today")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String newEtag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotNull().isNotEqualTo(etag);
+        verify(sessionService).getTodaysSessionsForTrainer(trainerId);
+
+        mockMvc.perform(get("/sessions/today")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                        .header(HttpHeaders.IF_NONE_MATCH, newEtag))
+                .andExpect(status().isNotModified());
+    }
+}
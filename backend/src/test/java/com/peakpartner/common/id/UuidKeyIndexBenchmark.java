@@ -0,0 +1,119 @@
+package com.peakpartner.common.id;
+
+import com.peakpartner.support.PostgresIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary-key index size and insert rate for random (v4) against time-ordered (v7) UUID keys
+ * on an {@code exercise_logs}-shaped table. Each variant fills its own copy of the table in
+ * chunks, so the index grows the way a live table's does:
+ * <ul>
+ *   <li>{@code db-v4} / {@code db-v7}: server-side {@code INSERT ... SELECT} with
+ *       {@code gen_random_uuid()} or {@code uuid_generate_v7()} (V11) as the key;</li>
+ *   <li>{@code app-v4} / {@code app-v7}: JDBC batches with keys from {@link UUID#randomUUID()}
+ *       or {@link UuidV7}, which is how the application inserts.</li>
+ * </ul>
+ * Results (rows/s, primary-key index and heap size) are logged at INFO. {@code uuid_generate_v7()}
+ * has no per-millisecond counter, so a bulk {@code INSERT ... SELECT} that writes hundreds of
+ * rows per millisecond still splits index pages at random within each millisecond.
+ *
+ * <p>Opt-in: the class name does not match surefire's test patterns, so it never runs in a
+ * normal build. From {@code backend/}, against Testcontainers or {@code TEST_DATABASE_URL}:
+ * <pre>
+ * mvn test -Dtest=UuidKeyIndexBenchmark -Dbenchmark.rows=1000000
+ * </pre>
+ */
+@Slf4j
+class UuidKeyIndexBenchmark extends PostgresIntegrationTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int CHUNK = 10_000;
+    private static final int JDBC_BATCH = 1_000;
+
+    private static final String COLUMNS = "id, connection_id, logged_by, exercise_name, log_date, "
+            + "sets_completed, reps_completed, weight_used";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID connectionId = UUID.randomUUID();
+    private final UUID loggedBy = UUID.randomUUID();
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() {
+        Map<String, Result> results = new LinkedHashMap<>();
+        results.put("db-v4", run("bench_logs_db_v4", table -> insertServerSide(table, "gen_random_uuid()")));
+        results.put("db-v7", run("bench_logs_db_v7", table -> insertServerSide(table, "uuid_generate_v7()")));
+        results.put("app-v4", run("bench_logs_app_v4", table -> insertFromApplication(table, UUID::randomUUID)));
+        results.put("app-v7", run("bench_logs_app_v7", table -> insertFromApplication(table, UuidV7::generate)));
+
+        results.forEach((name, r) -> log.info("{}: {} rows at {} rows/s; pk index {} kB, heap {} kB",
+                name, ROWS, r.rowsPerSecond(), r.indexBytes() / 1024, r.heapBytes() / 1024));
+    }
+
+    private record Result(long rowsPerSecond, long indexBytes, long heapBytes) {
+    }
+
+    private interface Filler {
+        void fill(String table);
+    }
+
+    private Result run(String table, Filler filler) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        // Same columns as exercise_logs with only the primary key, so the key type is the one variable
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE exercise_logs INCLUDING DEFAULTS, PRIMARY KEY (id))");
+        try {
+            long start = System.nanoTime();
+            filler.fill(table);
+            long elapsed = System.nanoTime() - start;
+
+            Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+            assertThat(count).isEqualTo(ROWS);
+            Long indexBytes = jdbcTemplate.queryForObject(
+                    "SELECT pg_relation_size(indexrelid) FROM pg_index WHERE indrelid = ?::regclass AND indisprimary",
+                    Long.class, table);
+            Long heapBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size(?::regclass)", Long.class, table);
+            return new Result(ROWS * TimeUnit.SECONDS.toNanos(1) / elapsed, indexBytes, heapBytes);
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        }
+    }
+
+    private void insertServerSide(String table, String keyExpression) {
+        String sql = "INSERT INTO " + table + " (" + COLUMNS + ") "
+                + "SELECT " + keyExpression + ", ?, ?, 'Exercise ' || (g % 50), CURRENT_DATE - (g % 365), "
+                + "3, 10, 60.0 FROM generate_series(1, ?) g";
+        for (int done = 0; done < ROWS; done += CHUNK) {
+            jdbcTemplate.update(sql, connectionId, loggedBy, Math.min(CHUNK, ROWS - done));
+        }
+    }
+
+    private void insertFromApplication(String table, Supplier<UUID> keys) {
+        String sql = "INSERT INTO " + table + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, 3, 10, 60.0)";
+        LocalDate today = LocalDate.now();
+        List<Object[]> batch = new ArrayList<>(JDBC_BATCH);
+        for (int i = 0; i < ROWS; i++) {
+            batch.add(new Object[] {keys.get(), connectionId, loggedBy, "Exercise " + (i % 50),
+                    Date.valueOf(today.minusDays(i % 365))});
+            if (batch.size() == JDBC_BATCH || i == ROWS - 1) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+}
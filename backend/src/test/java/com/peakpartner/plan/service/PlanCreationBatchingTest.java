@@ -0,0 +1,151 @@
+package com.peakpartner.plan.service;
+
+import com.peakpartner.common.querycount.QueryCountInspector;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.plan.dto.CreateDietPlanRequest;
+import com.peakpartner.plan.dto.CreateWorkoutPlanRequest;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.support.PostgresIntegrationTest;
+import com.peakpartner.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan creation sends each child table as one JDBC batch (hibernate.jdbc.batch_size with
+ * order_inserts), so a 7-day, 60-exercise workout plan costs a handful of statements rather
+ * than one round trip per row. The same calls with batching switched off for the session
+ * are counted for comparison and logged.
+ */
+@Slf4j
+class PlanCreationBatchingTest extends PostgresIntegrationTest {
+
+    private static final int DAYS = 7;
+    private static final int EXERCISES = 60;
+    private static final int MEALS = 5;
+    private static final int ITEMS_PER_MEAL = 6;
+
+    // One insert batch per table; the connection itself comes from the L2 cache
+    private static final int WORKOUT_STATEMENTS = 3;
+    private static final int DIET_STATEMENTS = 3;
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Profile trainer;
+    private Connection connection;
+
+    @BeforeEach
+    void createConnection() {
+        trainer = fixtures.trainer();
+        connection = fixtures.acceptedConnection(trainer, fixtures.client());
+    }
+
+    @Test
+    void workoutPlanIsWrittenOneBatchPerTable() {
+        int batched = count(() -> planService.createWorkoutPlan(trainer.getId(), workoutPlan()), true);
+        int unbatched = count(() -> planService.createWorkoutPlan(trainer.getId(), workoutPlan()), false);
+        log.info("7-day, {}-exercise workout plan: {} statements batched, {} unbatched", EXERCISES, batched, unbatched);
+
+        assertThat(batched).isEqualTo(WORKOUT_STATEMENTS);
+        // Plan, every day and every exercise on its own
+        assertThat(unbatched).isEqualTo(1 + DAYS + EXERCISES);
+    }
+
+    @Test
+    void dietPlanIsWrittenOneBatchPerTable() {
+        int batched = count(() -> planService.createDietPlan(trainer.getId(), dietPlan()), true);
+        int unbatched = count(() -> planService.createDietPlan(trainer.getId(), dietPlan()), false);
+        log.info("{}-meal, {}-item diet plan: {} statements batched, {} unbatched",
+                MEALS, MEALS * ITEMS_PER_MEAL, batched, unbatched);
+
+        assertThat(batched).isEqualTo(DIET_STATEMENTS);
+        assertThat(unbatched).isEqualTo(1 + MEALS + MEALS * ITEMS_PER_MEAL);
+    }
+
+    // Statements prepared on this thread, including the flush at commit
+    private int count(Runnable create, boolean batching) {
+        QueryCountInspector.reset();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!batching) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            }
+            create.run();
+        });
+        return QueryCountInspector.current();
+    }
+
+    private CreateWorkoutPlanRequest workoutPlan() {
+        CreateWorkoutPlanRequest request = new CreateWorkoutPlanRequest();
+        request.setConnectionId(connection.getId());
+        request.setTitle("Week");
+        request.setProgram(Connection.ProgramType.GENERAL_FITNESS);
+        request.setDuration("WEEKLY");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusWeeks(1));
+
+        List<CreateWorkoutPlanRequest.PlanDayInput> days = new ArrayList<>();
+        for (int d = 0; d < DAYS; d++) {
+            CreateWorkoutPlanRequest.PlanDayInput day = new CreateWorkoutPlanRequest.PlanDayInput();
+            day.setDayNumber(d + 1);
+            day.setDayName("Day " + (d + 1));
+            day.setExercises(new ArrayList<>());
+            days.add(day);
+        }
+        // 60 exercises spread over the week: 9 on the first four days, 8 on the rest
+        for (int e = 0; e < EXERCISES; e++) {
+            CreateWorkoutPlanRequest.ExerciseInput exercise = new CreateWorkoutPlanRequest.ExerciseInput();
+            exercise.setExerciseName("Exercise " + e);
+            exercise.setSets(3);
+            exercise.setReps("10");
+            days.get(e % DAYS).getExercises().add(exercise);
+        }
+        request.setDays(days);
+        return request;
+    }
+
+    private CreateDietPlanRequest dietPlan() {
+        CreateDietPlanRequest request = new CreateDietPlanRequest();
+        request.setConnectionId(connection.getId());
+        request.setTitle("Diet");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusWeeks(1));
+
+        List<CreateDietPlanRequest.MealInput> meals = new ArrayList<>();
+        for (int m = 0; m < MEALS; m++) {
+            CreateDietPlanRequest.MealInput meal = new CreateDietPlanRequest.MealInput();
+            meal.setMealName("Meal " + m);
+            List<CreateDietPlanRequest.MealItemInput> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_MEAL; i++) {
+                CreateDietPlanRequest.MealItemInput item = new CreateDietPlanRequest.MealItemInput();
+                item.setFoodName("Food " + i);
+                item.setQuantity("100g");
+                items.add(item);
+            }
+            meal.setItems(items);
+            meals.add(meal);
+        }
+        request.setMeals(meals);
+        return request;
+    }
+}
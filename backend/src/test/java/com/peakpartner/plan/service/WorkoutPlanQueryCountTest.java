@@ -0,0 +1,89 @@
+package com.peakpartner.plan.service;
+
+import com.peakpartner.common.querycount.QueryCountInspector;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.plan.dto.CreateWorkoutPlanRequest;
+import com.peakpartner.plan.dto.WorkoutPlanResponse;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.support.PostgresIntegrationTest;
+import com.peakpartner.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Workout plan lists load roots, days and exercises in three statements however many
+ * plans the trainer has (WorkoutPlanTreeLoader), rather than one lazy load per plan and day.
+ */
+class WorkoutPlanQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int DAYS_PER_PLAN = 3;
+    private static final int EXERCISES_PER_DAY = 4;
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void trainerPlanListUsesThreeQueriesForOnePlanOrMany() {
+        Profile trainer = fixtures.trainer();
+        Connection connection = fixtures.acceptedConnection(trainer, fixtures.client());
+
+        createPlans(trainer, connection, 1);
+        assertThat(countQueries(trainer)).isEqualTo(3);
+
+        createPlans(trainer, connection, 9);
+        assertThat(countQueries(trainer)).isEqualTo(3);
+    }
+
+    private int countQueries(Profile trainer) {
+        QueryCountInspector.reset();
+        List<WorkoutPlanResponse> plans = planService.getWorkoutPlansByTrainer(trainer.getId());
+        int queries = QueryCountInspector.current();
+
+        // The whole tree was mapped, so nothing was left to load lazily
+        assertThat(plans).allSatisfy(plan -> {
+            assertThat(plan.getDays()).hasSize(DAYS_PER_PLAN);
+            assertThat(plan.getDays()).allSatisfy(day -> assertThat(day.getExercises()).hasSize(EXERCISES_PER_DAY));
+        });
+        return queries;
+    }
+
+    private void createPlans(Profile trainer, Connection connection, int count) {
+        for (int i = 0; i < count; i++) {
+            CreateWorkoutPlanRequest request = new CreateWorkoutPlanRequest();
+            request.setConnectionId(connection.getId());
+            request.setTitle("Plan " + i);
+            request.setProgram(Connection.ProgramType.GENERAL_FITNESS);
+            request.setDuration("WEEKLY");
+            request.setStartDate(LocalDate.now());
+            request.setEndDate(LocalDate.now().plusWeeks(1));
+
+            List<CreateWorkoutPlanRequest.PlanDayInput> days = new ArrayList<>();
+            for (int d = 1; d <= DAYS_PER_PLAN; d++) {
+                CreateWorkoutPlanRequest.PlanDayInput day = new CreateWorkoutPlanRequest.PlanDayInput();
+                day.setDayNumber(d);
+                day.setDayName("Day " + d);
+                List<CreateWorkoutPlanRequest.ExerciseInput> exercises = new ArrayList<>();
+                for (int e = 0; e < EXERCISES_PER_DAY; e++) {
+                    CreateWorkoutPlanRequest.ExerciseInput exercise = new CreateWorkoutPlanRequest.ExerciseInput();
+                    exercise.setExerciseName("Exercise " + e);
+                    exercise.setSets(3);
+                    exercise.setReps("10");
+                    exercises.add(exercise);
+                }
+                day.setExercises(exercises);
+                days.add(day);
+            }
+            request.setDays(days);
+            planService.createWorkoutPlan(trainer.getId(), request);
+        }
+    }
+}
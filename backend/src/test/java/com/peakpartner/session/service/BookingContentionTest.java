@@ -0,0 +1,132 @@
+package com.peakpartner.session.service;
+
+import com.peakpartner.common.exception.BadRequestException;
+import com.peakpartner.config.BookingConfig;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.session.dto.CreateSessionRequest;
+import com.peakpartner.support.PostgresIntegrationTest;
+import com.peakpartner.support.TestFixtures;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Booking contention in each {@link BookingConfig.Mode}: 200 clients of one trainer try to
+ * book the same slot at once. Exactly one booking may win, and every loser must get the
+ * same "already booked" message a sequential conflict gets, including losers that only the
+ * exclusion constraints caught. Per-mode latency is logged at INFO for comparison.
+ */
+@Slf4j
+class BookingContentionTest extends PostgresIntegrationTest {
+
+    private static final int CLIENTS = 200;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private BookingConfig bookingConfig;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private BookingConfig.Mode originalMode;
+
+    @BeforeEach
+    void rememberMode() {
+        originalMode = bookingConfig.getMode();
+    }
+
+    @AfterEach
+    void restoreMode() {
+        bookingConfig.setMode(originalMode);
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingConfig.Mode.class)
+    void concurrentBookingsOfOneSlotHaveExactlyOneWinner(BookingConfig.Mode mode) throws Exception {
+        bookingConfig.setMode(mode);
+        Profile trainer = fixtures.trainer();
+        List<Connection> connections = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            connections.add(fixtures.acceptedConnection(trainer, fixtures.client()));
+        }
+        LocalDate date = LocalDate.now().plusDays(30);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(CLIENTS));
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch ready = new CountDownLatch(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> calls = new ArrayList<>(CLIENTS);
+        try {
+            for (Connection connection : connections) {
+                CreateSessionRequest request = new CreateSessionRequest();
+                request.setConnectionId(connection.getId());
+                request.setSessionDate(date);
+                request.setStartTime(LocalTime.of(10, 0));
+                request.setEndTime(LocalTime.of(11, 0));
+                calls.add(pool.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    long began = System.nanoTime();
+                    try {
+                        sessionService.createSession(connection.getClient().getId(), request);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    } finally {
+                        latencies.add(System.nanoTime() - began);
+                    }
+                    return null;
+                }));
+            }
+            ready.await();
+            long wallStart = System.nanoTime();
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(2, TimeUnit.MINUTES);
+            }
+            report(mode, latencies, System.nanoTime() - wallStart);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(failures).hasSize(CLIENTS - 1);
+        assertThat(failures).allSatisfy(failure -> assertThat(failure)
+                .isInstanceOf(BadRequestException.class)
+                .extracting(Throwable::getMessage)
+                .isIn(SessionService.TRAINER_BOOKED, SessionService.CLIENT_BOOKED));
+        assertThat(sessionService.getUpcomingSessionsForTrainer(trainer.getId())).hasSize(1);
+    }
+
+    private static void report(BookingConfig.Mode mode, List<Long> latencies, long wallNanos) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        log.info("{}: {} concurrent bookings in {} ms; per call p50 {} ms, p99 {} ms, max {} ms",
+                mode, sorted.size(), millis(wallNanos),
+                millis(sorted.get(sorted.size() / 2)),
+                millis(sorted.get(sorted.size() * 99 / 100)),
+                millis(sorted.get(sorted.size() - 1)));
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
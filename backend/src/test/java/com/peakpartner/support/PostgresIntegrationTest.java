@@ -0,0 +1,60 @@
+package com.peakpartner.support;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base for tests that need the real schema: Flyway applies every migration, so named enums,
+ * the V7 exclusion constraints and the change-sequence triggers behave as in production.
+ *
+ * <p>The database is a PostgreSQL container shared by all test classes, or an existing
+ * database named by {@code TEST_DATABASE_URL} (plus {@code TEST_DATABASE_USERNAME} and
+ * {@code TEST_DATABASE_PASSWORD}) where Docker is not available. With neither, the tests
+ * are skipped rather than failed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+public abstract class PostgresIntegrationTest {
+
+    private static final String URL_ENV = "TEST_DATABASE_URL";
+
+    private static PostgreSQLContainer<?> container;
+
+    @BeforeAll
+    static void requireDatabase() {
+        Assumptions.assumeTrue(System.getenv(URL_ENV) != null || DockerClientFactory.instance().isDockerAvailable(),
+                "Needs Docker or " + URL_ENV);
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        String url = System.getenv(URL_ENV);
+        if (url != null) {
+            registry.add("spring.datasource.url", () -> url);
+            registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("TEST_DATABASE_USERNAME", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("TEST_DATABASE_PASSWORD", "postgres"));
+            return;
+        }
+        PostgreSQLContainer<?> postgres = container();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    // Started once per JVM and removed by Testcontainers when the JVM exits
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return container;
+    }
+}
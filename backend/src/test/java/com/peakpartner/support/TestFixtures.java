@@ -0,0 +1,56 @@
+package com.peakpartner.support;
+
+import com.peakpartner.common.id.UuidV7;
+import com.peakpartner.connection.model.Connection;
+import com.peakpartner.connection.repository.ConnectionRepository;
+import com.peakpartner.profile.model.Profile;
+import com.peakpartner.profile.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Profiles and connections for integration tests. Every call creates new rows with unique
+ * emails, so tests never depend on each other's data.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final ProfileRepository profileRepository;
+    private final ConnectionRepository connectionRepository;
+
+    public Profile trainer() {
+        return profile(Profile.Role.TRAINER);
+    }
+
+    public Profile client() {
+        return profile(Profile.Role.CLIENT);
+    }
+
+    public Connection acceptedConnection(Profile trainer, Profile client) {
+        return connectionRepository.save(Connection.builder()
+                .trainer(trainer)
+                .client(client)
+                .status(Connection.ConnectionStatus.ACCEPTED)
+                .program(Connection.ProgramType.GENERAL_FITNESS)
+                .connectedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Profile profile(Profile.Role role) {
+        UUID id = UuidV7.generate();
+        return profileRepository.save(Profile.builder()
+                .id(id)
+                .role(role)
+                .fullName(role.name().toLowerCase() + " " + id)
+                .email(id + "@test.local")
+                .avgRating(BigDecimal.ZERO)
+                .totalReviews(0)
+                .authVersion(0)
+                .build());
+    }
+}